@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.codegen;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.*;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 标注的类的一个属性：JSON名称、getter/setter名称、声明类型
+ * getter/setter按JavaBean（Lombok）的规范推导，JSON名称按Jackson默认的规则从getter名称推导
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+final class BeanProperty {
+    private final String name;
+    private final String getter;
+    private final String setter;
+    private final TypeMirror type;
+    private final ValueKind kind;
+    private final int order;
+
+    private BeanProperty(String name, String getter, String setter, TypeMirror type, int order) {
+        this.name = name;
+        this.getter = getter;
+        this.setter = setter;
+        this.type = type;
+        this.kind = ValueKind.of(type);
+        this.order = order;
+    }
+
+    /**
+     * 由字段创建属性
+     *
+     * @param field    字段名
+     * @param type     字段类型
+     * @param jsonName @JsonProperty指定的名称，没有时为null
+     * @return 属性
+     */
+    static BeanProperty of(String field, TypeMirror type, String jsonName) {
+        String suffix;
+        String getter;
+        if (type.getKind() == TypeKind.BOOLEAN && field.length() > 2 && field.startsWith("is")
+                && Character.isUpperCase(field.charAt(2))) {
+            //Lombok对isXxx的boolean字段不再加前缀
+            suffix = field.substring(2);
+            getter = field;
+        } else {
+            suffix = capitalize(field);
+            getter = (type.getKind() == TypeKind.BOOLEAN ? "is" : "get") + suffix;
+        }
+        String implicitName = mangle(suffix);
+        boolean renamed = jsonName != null && !jsonName.isEmpty() && !jsonName.equals(implicitName);
+        //与Jackson的顺序相同：名称与字段名一致的在前，名称只来自getter的其次，@JsonProperty重命名的最后
+        int order = renamed ? 2 : implicitName.equals(field) ? 0 : 1;
+        return new BeanProperty(renamed ? jsonName : implicitName, getter, "set" + suffix, type, order);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getGetter() {
+        return getter;
+    }
+
+    String getSetter() {
+        return setter;
+    }
+
+    ValueKind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return 输出顺序的分组，同一组内按字段的声明顺序
+     */
+    int getOrder() {
+        return order;
+    }
+
+    /**
+     * @return 源码中的类型名（全限定名，包含泛型参数）
+     */
+    String typeName() {
+        return typeName(type);
+    }
+
+    /**
+     * @return 可以作为类型转换目标的类型名，基本类型转为包装类型
+     */
+    String boxedTypeName() {
+        return type.getKind().isPrimitive() ? kind.boxed : typeName();
+    }
+
+    /**
+     * @return 源码中表示声明类型的java.lang.reflect.Type表达式
+     */
+    String typeExpression() {
+        if (isGeneric(type)) {
+            return "new com.fasterxml.jackson.core.type.TypeReference<" + typeName() + ">() {\n"
+                    + "            }.getType()";
+        }
+        return typeName() + ".class";
+    }
+
+    private static String typeName(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                DeclaredType declared = (DeclaredType) type;
+                String raw = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                List<? extends TypeMirror> arguments = declared.getTypeArguments();
+                if (arguments.isEmpty()) {
+                    return raw;
+                }
+                StringBuilder builder = new StringBuilder(raw).append('<');
+                for (int i = 0; i < arguments.size(); i++) {
+                    builder.append(i == 0 ? "" : ", ").append(typeName(arguments.get(i)));
+                }
+                return builder.append('>').toString();
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType()) + "[]";
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + typeName(wildcard.getExtendsBound());
+                }
+                return wildcard.getSuperBound() == null ? "?" : "? super " + typeName(wildcard.getSuperBound());
+            default:
+                if (type.getKind().isPrimitive()) {
+                    return type.getKind().name().toLowerCase(Locale.ROOT);
+                }
+                throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+    }
+
+    private static boolean isGeneric(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isGeneric(((ArrayType) type).getComponentType());
+        }
+        return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    private static String capitalize(String field) {
+        return Character.toUpperCase(field.charAt(0)) + field.substring(1);
+    }
+
+    /**
+     * 与Jackson默认的规则相同：去掉前缀后，开头连续的大写字母转为小写
+     */
+    private static String mangle(String suffix) {
+        StringBuilder builder = new StringBuilder(suffix);
+        for (int i = 0; i < builder.length() && Character.isUpperCase(builder.charAt(i)); i++) {
+            builder.setCharAt(i, Character.toLowerCase(builder.charAt(i)));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 值的种类，决定生成的读写代码
+     */
+    enum ValueKind {
+        /**
+         * 字符串
+         */
+        STRING("java.lang.String", "generator.writeString(%s)", "readString"),
+        /**
+         * int/Integer
+         */
+        INT("java.lang.Integer", "generator.writeNumber(%s)", "readInt"),
+        /**
+         * long/Long
+         */
+        LONG("java.lang.Long", "generator.writeNumber(%s)", "readLong"),
+        /**
+         * double/Double
+         */
+        DOUBLE("java.lang.Double", "generator.writeNumber(%s)", "readDouble"),
+        /**
+         * float/Float
+         */
+        FLOAT("java.lang.Float", "generator.writeNumber(%s)", null),
+        /**
+         * short/Short
+         */
+        SHORT("java.lang.Short", "generator.writeNumber(%s)", null),
+        /**
+         * byte/Byte，与Jackson相同按数字输出
+         */
+        BYTE("java.lang.Byte", "generator.writeNumber((int) %s)", null),
+        /**
+         * char/Character，与Jackson相同按单个字符的字符串输出
+         */
+        CHAR("java.lang.Character", "generator.writeString(String.valueOf(%s))", null),
+        /**
+         * boolean/Boolean
+         */
+        BOOLEAN("java.lang.Boolean", "generator.writeBoolean(%s)", "readBoolean"),
+        /**
+         * BigDecimal
+         */
+        BIG_DECIMAL("java.math.BigDecimal", "generator.writeNumber(%s)", "readBigDecimal"),
+        /**
+         * BigInteger
+         */
+        BIG_INTEGER("java.math.BigInteger", "generator.writeNumber(%s)", null),
+        /**
+         * 其他类型，交给ObjectMapper处理
+         */
+        OBJECT(null, null, null);
+
+        /**
+         * 包装类型
+         */
+        final String boxed;
+        /**
+         * 写出值的代码模板，为null时交给ObjectMapper
+         */
+        final String write;
+        /**
+         * GeneratedDeserializer读取值的方法，为null时使用readValue
+         */
+        final String read;
+
+        ValueKind(String boxed, String write, String read) {
+            this.boxed = boxed;
+            this.write = write;
+            this.read = read;
+        }
+
+        static ValueKind of(TypeMirror type) {
+            switch (type.getKind()) {
+                case INT:
+                    return INT;
+                case LONG:
+                    return LONG;
+                case DOUBLE:
+                    return DOUBLE;
+                case FLOAT:
+                    return FLOAT;
+                case SHORT:
+                    return SHORT;
+                case BYTE:
+                    return BYTE;
+                case CHAR:
+                    return CHAR;
+                case BOOLEAN:
+                    return BOOLEAN;
+                case DECLARED:
+                    String name = ((TypeElement) ((DeclaredType) type).asElement())
+                            .getQualifiedName().toString();
+                    for (ValueKind kind : values()) {
+                        if (name.equals(kind.boxed)) {
+                            return kind;
+                        }
+                    }
+                    return OBJECT;
+                default:
+                    return OBJECT;
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.codegen;
+
+import java.util.List;
+
+/**
+ * 生成 GeneratedCodec 实现的源码
+ * 序列化器按属性顺序逐个调用getter写出，字段名预先编码为SerializedString；
+ * 反序列化器按字段名switch后调用setter，字段类型的反序列化器在resolve时查找一次
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+final class CodecSourceWriter {
+    private static final String CODEGEN_PACKAGE = "org.example.xhc.common.codegen.";
+
+    private final String packageName;
+    private final String codecName;
+    private final String typeName;
+    private final List<BeanProperty> properties;
+    private final StringBuilder source = new StringBuilder(4096);
+
+    CodecSourceWriter(String packageName, String codecName, String typeName, List<BeanProperty> properties) {
+        this.packageName = packageName;
+        this.codecName = codecName;
+        this.typeName = typeName;
+        this.properties = properties;
+    }
+
+    String write() {
+        if (!packageName.isEmpty()) {
+            line("package %s;", packageName).line("");
+        }
+        line("/**")
+                .line(" * %s 的JSON编解码器，由 %s 生成，不要修改", typeName, JsonCodegenProcessor.class.getSimpleName())
+                .line(" */")
+                .line("public final class %s implements %sGeneratedCodec<%s> {", codecName, CODEGEN_PACKAGE, typeName)
+                .line("    @Override")
+                .line("    public Class<%s> type() {", typeName)
+                .line("        return %s.class;", typeName)
+                .line("    }")
+                .line("")
+                .line("    @Override")
+                .line("    public com.fasterxml.jackson.databind.JsonSerializer<%s> serializer() {", typeName)
+                .line("        return new Serializer();")
+                .line("    }")
+                .line("")
+                .line("    @Override")
+                .line("    public com.fasterxml.jackson.databind.JsonDeserializer<%s> deserializer() {", typeName)
+                .line("        return new Deserializer();")
+                .line("    }")
+                .line("");
+        writeSerializer();
+        line("");
+        writeDeserializer();
+        return line("}").source.toString();
+    }
+
+    private void writeSerializer() {
+        line("    static final class Serializer extends %sGeneratedSerializer<%s> {", CODEGEN_PACKAGE, typeName)
+                .line("        private static final long serialVersionUID = 1L;");
+        for (int i = 0; i < properties.size(); i++) {
+            line("        private static final com.fasterxml.jackson.core.io.SerializedString N%d =", i)
+                    .line("                new com.fasterxml.jackson.core.io.SerializedString(\"%s\");",
+                            escape(properties.get(i).getName()));
+        }
+        line("")
+                .line("        Serializer() {")
+                .line("            super(%s.class);", typeName)
+                .line("        }")
+                .line("")
+                .line("        @Override")
+                .line("        protected void writeFields(%s value, com.fasterxml.jackson.core.JsonGenerator generator,", typeName)
+                .line("                                   com.fasterxml.jackson.databind.SerializerProvider provider,")
+                .line("                                   com.fasterxml.jackson.annotation.JsonInclude.Include inclusion)")
+                .line("                throws java.io.IOException {");
+        for (int i = 0; i < properties.size(); i++) {
+            BeanProperty property = properties.get(i);
+            String write = property.getKind().write;
+            if (property.typeName().equals(property.getKind().boxed) || write == null) {
+                line("            {")
+                        .line("                %s v = value.%s();", property.typeName(), property.getGetter())
+                        .line("                if (include(v, inclusion)) {")
+                        .line("                    generator.writeFieldName(N%d);", i);
+                if (write == null) {
+                    line("                    writeValue(v, generator, provider);");
+                } else {
+                    line("                    if (v == null) {")
+                            .line("                        writeValue(null, generator, provider);")
+                            .line("                    } else {")
+                            .line("                        %s;", String.format(write, "v"))
+                            .line("                    }");
+                }
+                line("                }")
+                        .line("            }");
+            } else {
+                //基本类型
+                line("            generator.writeFieldName(N%d);", i)
+                        .line("            %s;", String.format(write, "value." + property.getGetter() + "()"));
+            }
+        }
+        line("        }")
+                .line("    }");
+    }
+
+    private void writeDeserializer() {
+        line("    static final class Deserializer extends %sGeneratedDeserializer<%s> {", CODEGEN_PACKAGE, typeName)
+                .line("        private static final long serialVersionUID = 1L;");
+        for (int i = 0; i < properties.size(); i++) {
+            line("        private transient com.fasterxml.jackson.databind.JsonDeserializer<Object> d%d;", i);
+        }
+        line("")
+                .line("        Deserializer() {")
+                .line("            super(%s.class);", typeName)
+                .line("        }")
+                .line("")
+                .line("        @Override")
+                .line("        public void resolve(com.fasterxml.jackson.databind.DeserializationContext context)")
+                .line("                throws com.fasterxml.jackson.databind.JsonMappingException {");
+        for (int i = 0; i < properties.size(); i++) {
+            line("            d%d = find(context, %s);", i, properties.get(i).typeExpression());
+        }
+        line("        }")
+                .line("")
+                .line("        @Override")
+                .line("        protected %s create() {", typeName)
+                .line("            return new %s();", typeName)
+                .line("        }")
+                .line("")
+                .line("        @Override")
+                .line("        @SuppressWarnings(\"unchecked\")")
+                .line("        protected boolean readField(String name, %s bean, com.fasterxml.jackson.core.JsonParser parser,", typeName)
+                .line("                                    com.fasterxml.jackson.databind.DeserializationContext context)")
+                .line("                throws java.io.IOException {")
+                .line("            switch (name) {");
+        for (int i = 0; i < properties.size(); i++) {
+            BeanProperty property = properties.get(i);
+            String read = property.getKind().read;
+            String value = read == null
+                    ? String.format("(%s) readValue(parser, context, d%d)", property.boxedTypeName(), i)
+                    : String.format("%s(parser, context, d%d)", read, i);
+            line("                case \"%s\":", escape(property.getName()))
+                    .line("                    bean.%s(%s);", property.getSetter(), value)
+                    .line("                    return true;");
+        }
+        line("                default:")
+                .line("                    return false;")
+                .line("            }")
+                .line("        }")
+                .line("    }");
+    }
+
+    private CodecSourceWriter line(String format, Object... args) {
+        source.append(args.length == 0 ? format : String.format(format, args)).append('\n');
+        return this;
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * &#64;JsonCodegen 注解处理器
+ * 为每个标注的类生成一个 GeneratedCodec 实现（内含专用的序列化器、反序列化器），
+ * 并在最后一轮把全部生成的类登记到 META-INF/services，运行时由 GeneratedCodecModule 自动注册
+ * <p>
+ * 只依赖JDK，生成的代码依赖xhc-common和Jackson；不满足要求的类（见JsonCodegen的说明）报编译错误
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@SupportedAnnotationTypes(JsonCodegenProcessor.ANNOTATION)
+public final class JsonCodegenProcessor extends AbstractProcessor {
+    static final String ANNOTATION = "org.example.xhc.common.codegen.JsonCodegen";
+    private static final String SERVICE_FILE = "META-INF/services/org.example.xhc.common.codegen.GeneratedCodec";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+    private static final String JACKSON_ANNOTATIONS_INSIDE = "com.fasterxml.jackson.annotation.JacksonAnnotationsInside";
+    private static final String JACKSON_ANNOTATION_PACKAGE = "com.fasterxml.jackson.annotation.";
+    private static final String DATABIND_ANNOTATION_PACKAGE = "com.fasterxml.jackson.databind.annotation.";
+
+    private final Set<String> codecs = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                generate(element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(Element element) {
+        if (!isSupported(element)) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        List<BeanProperty> properties = properties(type);
+        if (properties == null) {
+            return;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String codecName = codecName(type);
+        String qualifiedName = packageName.isEmpty() ? codecName : packageName + "." + codecName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(new CodecSourceWriter(packageName, codecName, type.getQualifiedName().toString(), properties)
+                    .write());
+        } catch (IOException e) {
+            error(type, "Failed to generate " + qualifiedName + ": " + e.getMessage());
+            return;
+        }
+        codecs.add(qualifiedName);
+    }
+
+    private boolean isSupported(Element element) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (element.getKind() != ElementKind.CLASS) {
+            error(element, "@JsonCodegen only supports classes");
+        } else if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT)) {
+            error(element, "@JsonCodegen requires a public, non-abstract class");
+        } else if (element.getEnclosingElement().getKind() != ElementKind.PACKAGE && !modifiers.contains(Modifier.STATIC)) {
+            error(element, "@JsonCodegen requires nested classes to be static");
+        } else if (!((TypeElement) element).getTypeParameters().isEmpty()) {
+            error(element, "@JsonCodegen does not support generic classes");
+        } else {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 按Jackson的顺序收集属性：父类的字段在前，同一个类中按声明顺序，再按 {@link BeanProperty#getOrder()} 分组
+     */
+    private List<BeanProperty> properties(TypeElement type) {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement t = type; t != null && !Object.class.getName().equals(t.getQualifiedName().toString());
+             t = superclass(t)) {
+            hierarchy.push(t);
+        }
+        Map<String, BeanProperty> properties = new LinkedHashMap<>();
+        for (TypeElement t : hierarchy) {
+            if (!checkAnnotations(t)) {
+                return null;
+            }
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC) || isIgnored(field)) {
+                    continue;
+                }
+                if (!isSupported(field.asType())) {
+                    error(field, "@JsonCodegen does not support type variables in field types");
+                    return null;
+                }
+                BeanProperty property = BeanProperty.of(field.getSimpleName().toString(), field.asType(),
+                        annotationValue(field, JSON_PROPERTY));
+                if (properties.put(property.getName(), property) != null) {
+                    error(field, "Duplicate JSON property '" + property.getName() + "'");
+                    return null;
+                }
+            }
+        }
+        List<BeanProperty> ordered = new ArrayList<>(properties.values());
+        ordered.sort(Comparator.comparingInt(BeanProperty::getOrder));
+        return ordered;
+    }
+
+    /**
+     * 生成的代码只实现字段上的 &#64;JsonProperty（仅value）和 &#64;JsonIgnore，其他Jackson注解会改变Bean序列化的结果，
+     * 不能静默忽略，报编译错误；方法上只允许与字段相同的 &#64;JsonProperty、&#64;JsonIgnore（如Lombok复制到getter、setter的注解）
+     */
+    private boolean checkAnnotations(TypeElement type) {
+        boolean supported = checkAnnotations(type, type.getAnnotationMirrors(), Collections.emptySet());
+        Set<String> fieldAnnotations = new HashSet<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+                fieldAnnotations.add(annotation.toString());
+            }
+        }
+        for (Element element : type.getEnclosedElements()) {
+            switch (element.getKind()) {
+                case FIELD:
+                    supported &= element.getModifiers().contains(Modifier.STATIC)
+                            || checkAnnotations(element, element.getAnnotationMirrors(), null);
+                    break;
+                case METHOD:
+                case CONSTRUCTOR:
+                    supported &= checkAnnotations(element, element.getAnnotationMirrors(), fieldAnnotations);
+                    for (VariableElement parameter : ((ExecutableElement) element).getParameters()) {
+                        supported &= checkAnnotations(parameter, parameter.getAnnotationMirrors(), fieldAnnotations);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return supported;
+    }
+
+    /**
+     * @param allowed 允许的Jackson注解（按注解的字符串形式），为null时表示字段，只允许 &#64;JsonProperty（仅value）和 &#64;JsonIgnore
+     */
+    private boolean checkAnnotations(Element element, List<? extends AnnotationMirror> annotations, Set<String> allowed) {
+        boolean supported = true;
+        for (AnnotationMirror annotation : annotations) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            String name = annotationType.getQualifiedName().toString();
+            if (!isJacksonAnnotation(annotationType, name)) {
+                continue;
+            }
+            boolean fieldAnnotation = JSON_IGNORE.equals(name) || JSON_PROPERTY.equals(name)
+                    && (annotation.getElementValues().isEmpty() || value(annotation) != null
+                    && annotation.getElementValues().size() == 1);
+            if (allowed == null ? !fieldAnnotation : !fieldAnnotation || !allowed.contains(annotation.toString())) {
+                error(element, "@JsonCodegen does not support " + annotation
+                        + ", only @JsonProperty(value) and @JsonIgnore on fields are supported");
+                supported = false;
+            }
+        }
+        return supported;
+    }
+
+    private static boolean isJacksonAnnotation(TypeElement annotationType, String name) {
+        if (name.startsWith(JACKSON_ANNOTATION_PACKAGE) || name.startsWith(DATABIND_ANNOTATION_PACKAGE)) {
+            return true;
+        }
+        for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+            if (JACKSON_ANNOTATIONS_INSIDE.equals(
+                    ((TypeElement) meta.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    private static boolean isSupported(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                    if (argument.getKind() != TypeKind.WILDCARD && !isSupported(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+            case ARRAY:
+                return isSupported(((ArrayType) type).getComponentType());
+            default:
+                return type.getKind().isPrimitive();
+        }
+    }
+
+    private static boolean isIgnored(VariableElement field) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            if (JSON_IGNORE.equals(((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                String value = value(annotation);
+                return value == null || Boolean.parseBoolean(value);
+            }
+        }
+        return false;
+    }
+
+    private static String annotationValue(VariableElement field, String annotationName) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            if (annotationName.equals(((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return value(annotation);
+            }
+        }
+        return null;
+    }
+
+    private static String value(AnnotationMirror annotation) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : annotation.getElementValues().entrySet()) {
+            if ("value".contentEquals(entry.getKey().getSimpleName())) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 嵌套类的生成类名为“外部类_类名Codec”
+     */
+    private static String codecName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+            name.insert(0, e.getSimpleName() + "_");
+        }
+        return name.append("Codec").toString();
+    }
+
+    private void writeServiceFile() {
+        if (codecs.isEmpty()) {
+            return;
+        }
+        //增量编译时保留之前登记的类
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(),
+                    StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        codecs.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            //不存在
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String codec : codecs) {
+                    writer.write(codec);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.codegen;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+
+/**
+ * 编译期生成的编解码器，由注解处理器为 {@link JsonCodegen} 标注的类生成，并登记到
+ * META-INF/services/org.example.xhc.common.codegen.GeneratedCodec
+ *
+ * @param <T> 标注的类
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public interface GeneratedCodec<T> {
+    /**
+     * @return 标注的类
+     */
+    Class<T> type();
+
+    /**
+     * 创建序列化器，每个ObjectMapper使用各自的实例
+     *
+     * @return 序列化器
+     */
+    JsonSerializer<T> serializer();
+
+    /**
+     * 创建反序列化器，每个ObjectMapper使用各自的实例
+     *
+     * @return 反序列化器
+     */
+    JsonDeserializer<T> deserializer();
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.codegen;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * 注册全部编译期生成的编解码器
+ * 通过ServiceLoader查找 {@link GeneratedCodec}，只在首次使用时查找一次；每次创建模块时为每个类新建序列化器、反序列化器
+ * <p>
+ * 生成的序列化器不支持的序列化级别（NON_ABSENT、NON_DEFAULT、CUSTOM）下不提供序列化器，由ObjectMapper使用默认的Bean序列化器
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public final class GeneratedCodecModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 构造函数
+     */
+    public GeneratedCodecModule() {
+        super(GeneratedCodecModule.class.getSimpleName());
+        setSerializers(new InclusionAwareSerializers());
+        for (GeneratedCodec<?> codec : Holder.CODECS) {
+            register(codec);
+        }
+    }
+
+    /**
+     * @return 是否存在生成的编解码器
+     */
+    public static boolean isEmpty() {
+        return Holder.CODECS.isEmpty();
+    }
+
+    private <T> void register(GeneratedCodec<T> codec) {
+        addSerializer(codec.type(), codec.serializer());
+        addDeserializer(codec.type(), codec.deserializer());
+    }
+
+    /**
+     * 按类型的序列化级别决定是否使用生成的序列化器
+     */
+    private static final class InclusionAwareSerializers extends SimpleSerializers {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(type.getRawClass()).getValueInclusion();
+            return GeneratedSerializer.supports(inclusion) ? super.findSerializer(config, type, beanDesc) : null;
+        }
+    }
+
+    /**
+     * 延迟到首次使用时查找
+     */
+    private static final class Holder {
+        private static final List<GeneratedCodec<?>> CODECS = load();
+
+        private static List<GeneratedCodec<?>> load() {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                classLoader = GeneratedCodec.class.getClassLoader();
+            }
+            List<GeneratedCodec<?>> codecs = new ArrayList<>();
+            for (GeneratedCodec<?> codec : ServiceLoader.load(GeneratedCodec.class, classLoader)) {
+                codecs.add(codec);
+            }
+            return Collections.unmodifiableList(codecs);
+        }
+    }
+}
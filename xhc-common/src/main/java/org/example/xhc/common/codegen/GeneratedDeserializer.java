@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.codegen;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+
+/**
+ * 生成的反序列化器的基类
+ * 逐个读取字段名，由生成的子类按字段名调用setter；
+ * 简单类型在token类型匹配时直接读取，其他情况（null、类型转换、复杂类型）交给resolve时查找的反序列化器，行为与默认的Bean反序列化一致
+ * 未知字段按 FAIL_ON_UNKNOWN_PROPERTIES 的配置处理
+ *
+ * @param <T> 标注的类
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public abstract class GeneratedDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 构造函数
+     *
+     * @param type 标注的类
+     */
+    protected GeneratedDeserializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (T) context.handleUnexpectedToken(handledType(), parser);
+        }
+        T bean = create();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (!readField(name, bean, parser, context)) {
+                handleUnknownProperty(parser, context, bean, name);
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * 创建对象
+     *
+     * @return 对象
+     */
+    protected abstract T create();
+
+    /**
+     * 读取字段值并调用setter，调用时parser位于字段值上
+     *
+     * @param name    字段名
+     * @param bean    对象
+     * @param parser  JsonParser
+     * @param context DeserializationContext
+     * @return 是否是已知的字段
+     * @throws IOException 读取失败
+     */
+    protected abstract boolean readField(String name, T bean, JsonParser parser, DeserializationContext context)
+            throws IOException;
+
+    /**
+     * 查找字段类型的反序列化器
+     *
+     * @param context DeserializationContext
+     * @param type    字段的声明类型
+     * @return 反序列化器
+     * @throws JsonMappingException 查找失败
+     */
+    protected static JsonDeserializer<Object> find(DeserializationContext context, Type type)
+            throws JsonMappingException {
+        return context.findRootValueDeserializer(context.constructType(type));
+    }
+
+    /**
+     * 读取字段值
+     *
+     * @param parser       JsonParser
+     * @param context      DeserializationContext
+     * @param deserializer 字段类型的反序列化器
+     * @return 字段值
+     * @throws IOException 读取失败
+     */
+    protected static Object readValue(JsonParser parser, DeserializationContext context,
+                                      JsonDeserializer<Object> deserializer) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_NULL)) {
+            return deserializer.getNullValue(context);
+        }
+        return deserializer.deserialize(parser, context);
+    }
+
+    /**
+     * 读取String字段，token是字符串时直接读取
+     *
+     * @param parser       JsonParser
+     * @param context      DeserializationContext
+     * @param deserializer 字段类型的反序列化器，其他token交给它处理
+     * @return 字段值
+     * @throws IOException 读取失败
+     */
+    protected static String readString(JsonParser parser, DeserializationContext context,
+                                       JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.hasToken(JsonToken.VALUE_STRING) ? parser.getText()
+                : (String) readValue(parser, context, deserializer);
+    }
+
+    /**
+     * 读取int/Integer字段，token是整数时直接读取
+     *
+     * @param parser       JsonParser
+     * @param context      DeserializationContext
+     * @param deserializer 字段类型的反序列化器，其他token交给它处理
+     * @return 字段值
+     * @throws IOException 读取失败
+     */
+    protected static Integer readInt(JsonParser parser, DeserializationContext context,
+                                     JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.hasToken(JsonToken.VALUE_NUMBER_INT) ? parser.getIntValue()
+                : (Integer) readValue(parser, context, deserializer);
+    }
+
+    /**
+     * 读取long/Long字段，token是整数时直接读取
+     *
+     * @param parser       JsonParser
+     * @param context      DeserializationContext
+     * @param deserializer 字段类型的反序列化器，其他token交给它处理
+     * @return 字段值
+     * @throws IOException 读取失败
+     */
+    protected static Long readLong(JsonParser parser, DeserializationContext context,
+                                   JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.hasToken(JsonToken.VALUE_NUMBER_INT) ? parser.getLongValue()
+                : (Long) readValue(parser, context, deserializer);
+    }
+
+    /**
+     * 读取boolean/Boolean字段，token是true/false时直接读取
+     *
+     * @param parser       JsonParser
+     * @param context      DeserializationContext
+     * @param deserializer 字段类型的反序列化器，其他token交给它处理
+     * @return 字段值
+     * @throws IOException 读取失败
+     */
+    protected static Boolean readBoolean(JsonParser parser, DeserializationContext context,
+                                         JsonDeserializer<Object> deserializer) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_TRUE)) {
+            return Boolean.TRUE;
+        }
+        return parser.hasToken(JsonToken.VALUE_FALSE) ? Boolean.FALSE
+                : (Boolean) readValue(parser, context, deserializer);
+    }
+
+    /**
+     * 读取double/Double字段，token是浮点数时直接读取
+     *
+     * @param parser       JsonParser
+     * @param context      DeserializationContext
+     * @param deserializer 字段类型的反序列化器，其他token交给它处理
+     * @return 字段值
+     * @throws IOException 读取失败
+     */
+    protected static Double readDouble(JsonParser parser, DeserializationContext context,
+                                       JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.hasToken(JsonToken.VALUE_NUMBER_FLOAT) ? parser.getDoubleValue()
+                : (Double) readValue(parser, context, deserializer);
+    }
+
+    /**
+     * 读取BigDecimal字段，token是数字时直接读取
+     *
+     * @param parser       JsonParser
+     * @param context      DeserializationContext
+     * @param deserializer 字段类型的反序列化器，其他token交给它处理
+     * @return 字段值
+     * @throws IOException 读取失败
+     */
+    protected static BigDecimal readBigDecimal(JsonParser parser, DeserializationContext context,
+                                               JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.hasToken(JsonToken.VALUE_NUMBER_FLOAT) || parser.hasToken(JsonToken.VALUE_NUMBER_INT)
+                ? parser.getDecimalValue() : (BigDecimal) readValue(parser, context, deserializer);
+    }
+}
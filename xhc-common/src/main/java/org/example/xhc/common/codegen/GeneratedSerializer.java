@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.codegen;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 生成的序列化器的基类
+ * 生成的子类按字段逐个调用getter写出；简单类型（字符串、数字、布尔）直接写出，其他类型交给ObjectMapper查找序列化器
+ * <p>
+ * 序列化级别取自ObjectMapper的默认配置：ALWAYS 输出null，NON_NULL 跳过null，NON_EMPTY 跳过null和空字符串、空集合、空数组；
+ * 基本类型的字段总是输出。其他级别（NON_ABSENT、NON_DEFAULT、CUSTOM）的判断依赖Bean内省，
+ * 由 {@link GeneratedCodecModule} 退回默认的Bean序列化器，见 {@link #supports(JsonInclude.Include)}
+ *
+ * @param <T> 标注的类
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public abstract class GeneratedSerializer<T> extends StdSerializer<T> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 构造函数
+     *
+     * @param type 标注的类
+     */
+    protected GeneratedSerializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    public final void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(value);
+        writeFields(value, generator, provider, inclusion(provider));
+        generator.writeEndObject();
+    }
+
+    @Override
+    public final void serializeWithType(T value, JsonGenerator generator, SerializerProvider provider,
+                                        TypeSerializer typeSerializer) throws IOException {
+        WritableTypeId typeId = typeSerializer.writeTypePrefix(generator,
+                typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        writeFields(value, generator, provider, inclusion(provider));
+        typeSerializer.writeTypeSuffix(generator, typeId);
+    }
+
+    /**
+     * 写出全部字段
+     *
+     * @param value     对象
+     * @param generator JsonGenerator
+     * @param provider  SerializerProvider
+     * @param inclusion 序列化级别
+     * @throws IOException 写出失败
+     */
+    protected abstract void writeFields(T value, JsonGenerator generator, SerializerProvider provider,
+                                        JsonInclude.Include inclusion) throws IOException;
+
+    /**
+     * 判断序列化级别能否由生成的序列化器处理
+     *
+     * @param inclusion 序列化级别
+     * @return 是否支持
+     */
+    static boolean supports(JsonInclude.Include inclusion) {
+        switch (inclusion) {
+            case ALWAYS:
+            case USE_DEFAULTS:
+            case NON_NULL:
+            case NON_EMPTY:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 按序列化级别判断是否输出字段
+     *
+     * @param value     字段值
+     * @param inclusion 序列化级别
+     * @return 是否输出
+     */
+    protected static boolean include(Object value, JsonInclude.Include inclusion) {
+        if (value == null) {
+            return inclusion == JsonInclude.Include.ALWAYS;
+        }
+        return inclusion != JsonInclude.Include.NON_EMPTY || !isEmptyValue(value);
+    }
+
+    /**
+     * 写出非简单类型的字段值，由ObjectMapper按运行时类型查找序列化器
+     *
+     * @param value     字段值
+     * @param generator JsonGenerator
+     * @param provider  SerializerProvider
+     * @throws IOException 写出失败
+     */
+    protected static void writeValue(Object value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        if (value == null) {
+            provider.defaultSerializeNull(generator);
+        } else {
+            provider.defaultSerializeValue(value, generator);
+        }
+    }
+
+    private JsonInclude.Include inclusion(SerializerProvider provider) {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(handledType()).getValueInclusion();
+        return inclusion == JsonInclude.Include.USE_DEFAULTS ? JsonInclude.Include.ALWAYS : inclusion;
+    }
+
+    private static boolean isEmptyValue(Object value) {
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() == 0;
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).isEmpty();
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).isEmpty();
+        }
+        return value.getClass().isArray() && Array.getLength(value) == 0;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.codegen;
+
+import java.lang.annotation.*;
+
+/**
+ * 编译期生成JSON序列化器、反序列化器
+ * 标注的类在编译时由xhc-codegen的注解处理器生成专用的JsonSerializer、JsonDeserializer（类名为“外部类_类名Codec”，与标注的类同包），
+ * 直接调用getter/setter读写字段，省去运行时的Bean内省和反射；生成的类通过ServiceLoader自动注册到JacksonUtils的JSON ObjectMapper（其他格式仍使用Bean序列化）
+ * <p>
+ * 使用方式：在pom中加入xhc-codegen依赖（scope为provided），然后在类上标注本注解
+ * <p>
+ * 对标注的类的要求：
+ * 1. 非抽象、非泛型的public类（嵌套类必须是static的），有public的无参构造函数
+ * 2. 每个非static字段都有符合JavaBean（Lombok）命名规范的public getter/setter，父类的字段同样处理
+ * 3. 字段上只识别 {@link com.fasterxml.jackson.annotation.JsonProperty} 的名称和 {@link com.fasterxml.jackson.annotation.JsonIgnore}，
+ * 类、字段、方法上的其他Jackson注解（例如@JsonFormat、@JsonInclude、@JsonNaming、@JsonSerialize）会改变Bean序列化的结果，
+ * 生成的代码无法实现，注解处理器报编译错误
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface JsonCodegen {
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.helper;
+
+import lombok.SneakyThrows;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+
+/**
+ * 上下文载体：保存当前执行流程（线程或作用域）的一个值
+ * <p>
+ * JDK提供ScopedValue（JDK 25起为正式API）时，{@link #run(Runnable)}、{@link #call(Callable)} 为任务绑定一个作用域，
+ * 作用域内的 get/set/remove 读写绑定的单元格，任务结束后随之释放，不在线程上留下ThreadLocal条目，适合大量虚拟线程；
+ * 不在作用域内、或者JDK不支持ScopedValue（Java 8）时，使用ThreadLocal
+ * <p>
+ * 通过反射访问ScopedValue，编译和运行都不要求新版JDK；线程安全
+ *
+ * @param <T> 值的类型
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public abstract class ContextCarrier<T> {
+
+    /**
+     * 防止外部继承
+     */
+    private ContextCarrier() {
+    }
+
+    /**
+     * 创建上下文载体，JDK支持时使用ScopedValue，否则使用ThreadLocal
+     *
+     * @param <T> 值的类型
+     * @return 上下文载体
+     */
+    public static <T> ContextCarrier<T> create() {
+        return Scoped.SUPPORTED ? new Scoped<>() : new Local<>();
+    }
+
+    /**
+     * 创建只使用ThreadLocal的上下文载体
+     *
+     * @param <T> 值的类型
+     * @return 上下文载体
+     */
+    public static <T> ContextCarrier<T> threadLocal() {
+        return new Local<>();
+    }
+
+    /**
+     * @return 当前的值，没有时为null
+     */
+    public abstract T get();
+
+    /**
+     * 设置当前的值
+     *
+     * @param value 值
+     */
+    public abstract void set(T value);
+
+    /**
+     * 移除当前的值
+     */
+    public abstract void remove();
+
+    /**
+     * 当前是否在ScopedValue的作用域内，此时值不保存在ThreadLocal中
+     *
+     * @return 在作用域内返回true
+     */
+    public abstract boolean isScoped();
+
+    /**
+     * 在新的作用域中执行任务：任务开始时值为空，任务中设置的值在结束后丢弃，不影响外层
+     *
+     * @param task 任务
+     */
+    public void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 在新的作用域中执行任务：任务开始时值为空，任务中设置的值在结束后丢弃，不影响外层
+     *
+     * @param task 任务
+     * @param <R>  结果的类型
+     * @return 任务的结果
+     */
+    public abstract <R> R call(Callable<R> task);
+
+    /**
+     * 基于ThreadLocal的实现
+     */
+    private static final class Local<T> extends ContextCarrier<T> {
+        private final ThreadLocal<T> local = new ThreadLocal<>();
+
+        @Override
+        public T get() {
+            return local.get();
+        }
+
+        @Override
+        public void set(T value) {
+            local.set(value);
+        }
+
+        @Override
+        public void remove() {
+            local.remove();
+        }
+
+        @Override
+        public boolean isScoped() {
+            return false;
+        }
+
+        @Override
+        @SneakyThrows
+        public <R> R call(Callable<R> task) {
+            T outer = local.get();
+            local.remove();
+            try {
+                return task.call();
+            } finally {
+                if (outer == null) {
+                    local.remove();
+                } else {
+                    local.set(outer);
+                }
+            }
+        }
+    }
+
+    /**
+     * 基于ScopedValue的实现，作用域绑定一个可变的单元格；不在作用域内时使用ThreadLocal
+     */
+    private static final class Scoped<T> extends ContextCarrier<T> {
+        private static final MethodHandle NEW_INSTANCE;
+        private static final MethodHandle WHERE;
+        private static final MethodHandle CARRIER_RUN;
+        private static final MethodHandle IS_BOUND;
+        private static final MethodHandle GET;
+        static final boolean SUPPORTED;
+
+        static {
+            MethodHandle newInstance = null;
+            MethodHandle where = null;
+            MethodHandle carrierRun = null;
+            MethodHandle isBound = null;
+            MethodHandle get = null;
+            boolean supported = false;
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                Class<?> scopedValue = Class.forName("java.lang.ScopedValue");
+                Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+                newInstance = lookup.findStatic(scopedValue, "newInstance", MethodType.methodType(scopedValue))
+                        .asType(MethodType.methodType(Object.class));
+                where = lookup.findStatic(scopedValue, "where",
+                                MethodType.methodType(carrier, scopedValue, Object.class))
+                        .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+                carrierRun = lookup.findVirtual(carrier, "run", MethodType.methodType(void.class, Runnable.class))
+                        .asType(MethodType.methodType(void.class, Object.class, Runnable.class));
+                isBound = lookup.findVirtual(scopedValue, "isBound", MethodType.methodType(boolean.class))
+                        .asType(MethodType.methodType(boolean.class, Object.class));
+                get = lookup.findVirtual(scopedValue, "get", MethodType.methodType(Object.class))
+                        .asType(MethodType.methodType(Object.class, Object.class));
+                //预览版API在未开启预览时调用失败
+                Object probe = newInstance.invokeExact();
+                carrierRun.invokeExact(where.invokeExact(probe, (Object) Boolean.TRUE), (Runnable) () -> {
+                });
+                supported = true;
+            } catch (Throwable e) {
+                //不支持ScopedValue
+            }
+            NEW_INSTANCE = newInstance;
+            WHERE = where;
+            CARRIER_RUN = carrierRun;
+            IS_BOUND = isBound;
+            GET = get;
+            SUPPORTED = supported;
+        }
+
+        private final Object scopedValue;
+        private final Local<T> fallback = new Local<>();
+
+        @SneakyThrows
+        Scoped() {
+            this.scopedValue = NEW_INSTANCE.invokeExact();
+        }
+
+        @SneakyThrows
+        @SuppressWarnings("unchecked")
+        private Cell<T> cell() {
+            return (boolean) IS_BOUND.invokeExact(scopedValue) ? (Cell<T>) (Object) GET.invokeExact(scopedValue) : null;
+        }
+
+        @Override
+        public T get() {
+            Cell<T> cell = cell();
+            return cell != null ? cell.value : fallback.get();
+        }
+
+        @Override
+        public void set(T value) {
+            Cell<T> cell = cell();
+            if (cell != null) {
+                cell.value = value;
+            } else {
+                fallback.set(value);
+            }
+        }
+
+        @Override
+        public void remove() {
+            Cell<T> cell = cell();
+            if (cell != null) {
+                cell.value = null;
+            } else {
+                fallback.remove();
+            }
+        }
+
+        @Override
+        public boolean isScoped() {
+            return cell() != null;
+        }
+
+        @Override
+        @SneakyThrows
+        @SuppressWarnings("unchecked")
+        public <R> R call(Callable<R> task) {
+            Object[] result = new Object[1];
+            Throwable[] failure = new Throwable[1];
+            CARRIER_RUN.invokeExact(WHERE.invokeExact(scopedValue, (Object) new Cell<T>()), (Runnable) () -> {
+                try {
+                    result[0] = task.call();
+                } catch (Throwable e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            return (R) result[0];
+        }
+    }
+
+    /**
+     * 作用域内的值，只被绑定它的线程读写
+     */
+    private static final class Cell<T> {
+        private T value;
+    }
+}
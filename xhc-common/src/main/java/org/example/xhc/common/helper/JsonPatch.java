@@ -0,0 +1,499 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.helper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.SneakyThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
+
+/**
+ * 基于token流的JSON补丁
+ * 从解析器逐个复制token到生成器，在复制过程中插入、替换、删除目标字段；一次扫描完成全部修改，不构建整棵JsonNode树
+ * <p>
+ * 支持的操作：
+ * RFC 6902 JSON Patch 的 add、remove、replace（不支持 move、copy、test）
+ * RFC 7386 JSON Merge Patch
+ * <p>
+ * 路径支持JSON Pointer（例如 "/a/b/2/c"）和点号路径（例如 "a.b[2].c"），见 {@link JsonPathScanner#compile(String)}
+ * 与RFC 6902的区别：
+ * 1. add的父路径不存在时自动创建中间对象；remove的目标不存在时忽略
+ * 2. 全部操作针对原文档一次完成，同一路径上的多个操作以最后一个为准；
+ * 某个操作的路径位于之前add/replace的值内部时，直接作用于该值
+ * <p>
+ * 非线程安全，每次使用新建实例
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public final class JsonPatch {
+    private static final String APPEND = "-";
+
+    private final ObjectMapper mapper;
+    private final ObjectWriter valueWriter;
+    private final List<Operation> operations = new ArrayList<>();
+
+    /**
+     * 构造函数
+     *
+     * @param mapper 用于解析、生成JSON以及序列化补丁值的ObjectMapper
+     */
+    public JsonPatch(ObjectMapper mapper) {
+        this.mapper = mapper;
+        //补丁值嵌入到正在复制的文档中，不能单独开启缩进
+        this.valueWriter = mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * 从RFC 6902 JSON Patch文档创建补丁
+     *
+     * @param mapper ObjectMapper
+     * @param patch  JSON Patch文档，操作数组
+     * @return 补丁
+     * @throws IllegalArgumentException 文档格式错误或包含不支持的操作
+     */
+    public static JsonPatch of(ObjectMapper mapper, JsonNode patch) {
+        if (patch == null || !patch.isArray()) {
+            throw new IllegalArgumentException("JSON patch must be an array of operations");
+        }
+        JsonPatch jsonPatch = new JsonPatch(mapper);
+        for (JsonNode operation : patch) {
+            String op = operation.path("op").asText();
+            JsonNode path = operation.get("path");
+            if (path == null || !path.isTextual()) {
+                throw new IllegalArgumentException("JSON patch operation without path: " + operation);
+            }
+            if ("remove".equals(op)) {
+                jsonPatch.remove(path.textValue());
+                continue;
+            }
+            JsonNode value = operation.get("value");
+            if (value == null) {
+                throw new IllegalArgumentException("JSON patch operation without value: " + operation);
+            }
+            if ("add".equals(op)) {
+                jsonPatch.add(path.textValue(), value);
+            } else if ("replace".equals(op)) {
+                jsonPatch.replace(path.textValue(), value);
+            } else {
+                throw new IllegalArgumentException("Unsupported JSON patch operation: " + op);
+            }
+        }
+        return jsonPatch;
+    }
+
+    /**
+     * 添加或覆盖值
+     * 目标是对象的字段时，字段不存在则添加、存在则覆盖；目标是数组下标时插入到该位置，下标为“-”时追加到末尾
+     *
+     * @param path  路径
+     * @param value 值，可以是任意可序列化的对象
+     * @return this
+     */
+    public JsonPatch add(String path, Object value) {
+        operations.add(new Operation(Type.ADD, path, value));
+        return this;
+    }
+
+    /**
+     * 替换已存在的值
+     *
+     * @param path  路径
+     * @param value 值，可以是任意可序列化的对象
+     * @return this
+     */
+    public JsonPatch replace(String path, Object value) {
+        operations.add(new Operation(Type.REPLACE, path, value));
+        return this;
+    }
+
+    /**
+     * 删除值，目标不存在时忽略
+     *
+     * @param path 路径
+     * @return this
+     */
+    public JsonPatch remove(String path) {
+        operations.add(new Operation(Type.REMOVE, path, null));
+        return this;
+    }
+
+    /**
+     * 合并RFC 7386 JSON Merge Patch
+     * 补丁中值为null的字段被删除，值为对象的字段递归合并，其他字段被覆盖；补丁不是对象时替换整个文档
+     *
+     * @param mergePatch 合并补丁
+     * @return this
+     */
+    public JsonPatch merge(JsonNode mergePatch) {
+        merge("", mergePatch);
+        return this;
+    }
+
+    /**
+     * 是否没有任何操作
+     *
+     * @return true - 没有操作
+     */
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * 将补丁应用到json串
+     *
+     * @param json json串
+     * @return 修改后的json串
+     * @throws IllegalArgumentException 操作的目标路径不存在或与文档结构不符
+     */
+    @SneakyThrows
+    public String apply(String json) {
+        StringWriter writer = new StringWriter(json.length() + 64);
+        try (JsonParser parser = mapper.createParser(json);
+             JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+            apply(parser, generator);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * 从解析器读取一个JSON值，应用补丁后写入生成器
+     *
+     * @param parser    解析器，尚未读取任何token，或停在值的第一个token上
+     * @param generator 生成器
+     * @throws IOException              读取或写入失败
+     * @throws IllegalArgumentException 操作的目标路径不存在或与文档结构不符
+     */
+    public void apply(JsonParser parser, JsonGenerator generator) throws IOException {
+        Node root = build();
+        if (root.type == Type.REMOVE) {
+            throw new IllegalArgumentException("JSON patch cannot remove the whole document");
+        }
+        if (root.type != null) {
+            writeValue(generator, root);
+        } else if (parser.hasCurrentToken() || parser.nextToken() != null) {
+            copy(parser, generator, root);
+        } else if (root.hasAdditions()) {
+            writeMissing(generator, root);
+        }
+        verify(root);
+    }
+
+    private void merge(String pointer, JsonNode patch) {
+        if (!patch.isObject()) {
+            operations.add(new Operation(Type.ADD, pointer, patch));
+            return;
+        }
+        operations.add(new Operation(Type.MERGE, pointer, null));
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String child = pointer + '/' + field.getKey().replace("~", "~0").replace("/", "~1");
+            if (field.getValue().isNull()) {
+                operations.add(new Operation(Type.REMOVE, child, null));
+            } else {
+                merge(child, field.getValue());
+            }
+        }
+    }
+
+    /**
+     * 按路径把操作组织成树，子路径的操作落在之前add/replace的值内部时直接修改该值
+     */
+    private Node build() {
+        Node root = new Node("");
+        for (Operation operation : operations) {
+            Node node = root;
+            JsonPointer ptr = JsonPathScanner.compile(operation.path);
+            for (; !ptr.matches(); ptr = ptr.tail()) {
+                if (node.type == Type.REMOVE) {
+                    node.type = Type.ADD;
+                    node.value = mapper.createObjectNode();
+                }
+                if (node.type != null) {
+                    break;
+                }
+                String segment = ptr.getMatchingProperty();
+                node = node.children.computeIfAbsent(segment, k -> new Node(operation.path));
+            }
+            if (!ptr.matches()) {
+                node.value = applyToTree(toTree(node.value), ptr, operation);
+            } else if (operation.type == Type.MERGE) {
+                mergeNode(node);
+            } else {
+                node.children.clear();
+                node.merge = false;
+                node.type = operation.type;
+                node.value = operation.value;
+                node.path = operation.path;
+            }
+        }
+        return root;
+    }
+
+    private void mergeNode(Node node) {
+        if (node.type == Type.REMOVE) {
+            node.type = Type.ADD;
+            node.value = mapper.createObjectNode();
+        } else if (node.type != null) {
+            JsonNode value = toTree(node.value);
+            node.value = value.isObject() ? value : mapper.createObjectNode();
+        } else {
+            node.merge = true;
+        }
+    }
+
+    private JsonNode toTree(Object value) {
+        if (value instanceof JsonNode) {
+            return ((JsonNode) value).deepCopy();
+        }
+        return mapper.valueToTree(value);
+    }
+
+    /**
+     * 直接修改已经是JsonNode的值
+     *
+     * @param root      值
+     * @param pointer   相对于该值的路径
+     * @param operation 操作
+     * @return 修改后的值
+     */
+    private JsonNode applyToTree(JsonNode root, JsonPointer pointer, Operation operation) {
+        JsonNode parent = root;
+        JsonPointer ptr = pointer;
+        for (; !ptr.tail().matches(); ptr = ptr.tail()) {
+            String segment = ptr.getMatchingProperty();
+            JsonNode child = parent.isArray() ? parent.get(ptr.getMatchingIndex()) : parent.get(segment);
+            if (child == null || !child.isContainerNode()) {
+                if (!parent.isObject() || operation.type == Type.REMOVE || operation.type == Type.REPLACE) {
+                    return missing(root, operation);
+                }
+                child = ((ObjectNode) parent).putObject(segment);
+            }
+            parent = child;
+        }
+
+        String last = ptr.getMatchingProperty();
+        if (parent.isObject()) {
+            ObjectNode object = (ObjectNode) parent;
+            if (operation.type == Type.REMOVE) {
+                object.remove(last);
+            } else if (operation.type == Type.MERGE) {
+                if (!(object.get(last) instanceof ObjectNode)) {
+                    object.putObject(last);
+                }
+            } else if (operation.type == Type.ADD || object.has(last)) {
+                object.set(last, toTree(operation.value));
+            } else {
+                return missing(root, operation);
+            }
+        } else if (parent.isArray()) {
+            ArrayNode array = (ArrayNode) parent;
+            int index = APPEND.equals(last) ? array.size() : ptr.getMatchingIndex();
+            boolean exists = index >= 0 && index < array.size();
+            if (operation.type == Type.ADD && index >= 0 && index <= array.size()) {
+                array.insert(index, toTree(operation.value));
+            } else if (operation.type == Type.REMOVE) {
+                if (exists) {
+                    array.remove(index);
+                }
+            } else if (exists && operation.type == Type.REPLACE) {
+                array.set(index, toTree(operation.value));
+            } else if (exists && operation.type == Type.MERGE) {
+                if (!array.get(index).isObject()) {
+                    array.set(index, mapper.createObjectNode());
+                }
+            } else {
+                return missing(root, operation);
+            }
+        } else {
+            return missing(root, operation);
+        }
+        return root;
+    }
+
+    private static JsonNode missing(JsonNode root, Operation operation) {
+        if (operation.type == Type.REMOVE) {
+            return root;
+        }
+        throw new IllegalArgumentException("JSON patch target not found: " + operation.path);
+    }
+
+    private void copy(JsonParser parser, JsonGenerator generator, Node node) throws IOException {
+        if (node == null) {
+            generator.copyCurrentStructure(parser);
+            return;
+        }
+        if (node.type != null) {
+            parser.skipChildren();
+            writeValue(generator, node);
+            return;
+        }
+
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            copyObject(parser, generator, node);
+        } else if (node.merge) {
+            //合并补丁的目标不是对象时按空对象处理
+            parser.skipChildren();
+            writeMissing(generator, node);
+        } else if (token == JsonToken.START_ARRAY) {
+            copyArray(parser, generator, node);
+        } else {
+            generator.copyCurrentStructure(parser);
+        }
+    }
+
+    private void copyObject(JsonParser parser, JsonGenerator generator, Node node) throws IOException {
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            Node child = node.children.get(name);
+            if (child == null) {
+                generator.writeFieldName(name);
+                generator.copyCurrentStructure(parser);
+                continue;
+            }
+            child.found = true;
+            if (child.type == Type.REMOVE) {
+                parser.skipChildren();
+                continue;
+            }
+            generator.writeFieldName(name);
+            copy(parser, generator, child);
+        }
+        for (Map.Entry<String, Node> entry : node.children.entrySet()) {
+            if (!entry.getValue().found) {
+                writeMissingField(generator, entry.getKey(), entry.getValue());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void copyArray(JsonParser parser, JsonGenerator generator, Node node) throws IOException {
+        generator.writeStartArray();
+        int index = 0;
+        for (; parser.nextToken() != JsonToken.END_ARRAY; index++) {
+            Node child = node.children.get(String.valueOf(index));
+            if (child == null) {
+                generator.copyCurrentStructure(parser);
+            } else if (child.type == Type.ADD) {
+                //数组下标上的add是插入，原来的元素后移
+                writeValue(generator, child);
+                generator.copyCurrentStructure(parser);
+            } else if (child.type == Type.REMOVE) {
+                parser.skipChildren();
+            } else {
+                copy(parser, generator, child);
+            }
+        }
+        Node end = node.children.get(String.valueOf(index));
+        if (end != null && end.type == Type.ADD) {
+            writeValue(generator, end);
+        }
+        Node append = node.children.get(APPEND);
+        if (append != null && append.type == Type.ADD) {
+            writeValue(generator, append);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * 写出原文档中不存在的字段：add的值，以及包含add的中间对象
+     */
+    private void writeMissingField(JsonGenerator generator, String name, Node node) throws IOException {
+        if (node.type == Type.ADD) {
+            generator.writeFieldName(name);
+            writeValue(generator, node);
+        } else if (node.type == null && (node.merge || node.hasAdditions())) {
+            generator.writeFieldName(name);
+            writeMissing(generator, node);
+        }
+    }
+
+    private void writeMissing(JsonGenerator generator, Node node) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, Node> entry : node.children.entrySet()) {
+            writeMissingField(generator, entry.getKey(), entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeValue(JsonGenerator generator, Node node) throws IOException {
+        valueWriter.writeValue(generator, node.value);
+        node.applied = true;
+    }
+
+    private static void verify(Node node) {
+        if ((node.type == Type.ADD || node.type == Type.REPLACE) && !node.applied) {
+            throw new IllegalArgumentException("JSON patch target not found: " + node.path);
+        }
+        node.children.values().forEach(JsonPatch::verify);
+    }
+
+    /**
+     * 操作类型
+     */
+    private enum Type {
+        ADD, REPLACE, REMOVE,
+        /**
+         * 合并补丁中值为对象的字段：目标不存在或不是对象时按空对象处理
+         */
+        MERGE
+    }
+
+    /**
+     * 操作
+     */
+    private static final class Operation {
+        private final Type type;
+        private final String path;
+        private final Object value;
+
+        private Operation(Type type, String path, Object value) {
+            this.type = Objects.requireNonNull(type);
+            this.path = Objects.requireNonNull(path, "path");
+            this.value = value;
+        }
+    }
+
+    /**
+     * 按路径段组织的操作树
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private String path;
+        private Type type;
+        private Object value;
+        private boolean merge;
+        private boolean found;
+        private boolean applied;
+
+        private Node(String path) {
+            this.path = path;
+        }
+
+        private boolean hasAdditions() {
+            for (Node child : children.values()) {
+                if (child.type == Type.ADD || (child.type == null && (child.merge || child.hasAdditions()))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
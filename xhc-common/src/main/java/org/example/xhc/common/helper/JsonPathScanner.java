@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.helper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 基于token流的JSON路径定位器
+ * 逐个读取token，跳过无关的子结构（skipChildren），找到目标后立即停止扫描，不构建整棵JsonNode树
+ * <p>
+ * 路径支持两种写法：
+ * JSON Pointer，例如 "/a/b/2/c"
+ * 点号路径，例如 "a.b[2].c"；不含“.”和“[”的路径即为顶层字段名
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public final class JsonPathScanner {
+    private static final char POINTER_SEPARATOR = '/';
+    private static final char PATH_SEPARATOR = '.';
+    private static final char INDEX_START = '[';
+    private static final char INDEX_END = ']';
+
+    /**
+     * 防止实例化
+     */
+    private JsonPathScanner() {
+    }
+
+    /**
+     * 将路径编译为JSON Pointer
+     *
+     * @param path JSON Pointer 或 点号路径
+     * @return JSON Pointer
+     */
+    public static JsonPointer compile(String path) {
+        Objects.requireNonNull(path, "path");
+        if (path.isEmpty() || path.charAt(0) == POINTER_SEPARATOR) {
+            return JsonPointer.compile(path);
+        }
+
+        StringBuilder pointer = new StringBuilder(path.length() + 8);
+        StringBuilder segment = new StringBuilder();
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == PATH_SEPARATOR) {
+                appendSegment(pointer, segment);
+            } else if (c == INDEX_START) {
+                int end = path.indexOf(INDEX_END, i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Invalid path '" + path + "': missing ']'");
+                }
+                if (segment.length() > 0) {
+                    appendSegment(pointer, segment);
+                }
+                segment.append(path, i + 1, end);
+                appendSegment(pointer, segment);
+                i = end;
+                if (i + 1 < path.length() && path.charAt(i + 1) == PATH_SEPARATOR) {
+                    i++;
+                }
+            } else {
+                segment.append(c);
+            }
+        }
+        if (segment.length() > 0) {
+            appendSegment(pointer, segment);
+        }
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    /**
+     * 将字段名原样编译为指向顶层字段的JSON Pointer，字段名中的“.”、“[”、“/”不作为路径分隔符
+     *
+     * @param name 字段名
+     * @return JSON Pointer
+     */
+    public static JsonPointer field(String name) {
+        Objects.requireNonNull(name, "name");
+        StringBuilder pointer = new StringBuilder(name.length() + 1);
+        appendSegment(pointer, new StringBuilder(name));
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    /**
+     * 是否可能是路径：JSON Pointer，或包含“.”、“[”的点号路径；否则只能是顶层字段名
+     *
+     * @param key 字段名或路径
+     * @return true - 可能是路径
+     */
+    public static boolean isPath(String key) {
+        return !key.isEmpty() && (key.charAt(0) == POINTER_SEPARATOR
+                || key.indexOf(PATH_SEPARATOR) >= 0 || key.indexOf(INDEX_START) >= 0);
+    }
+
+    /**
+     * 将解析器定位到路径指向的值
+     * 定位成功时，解析器停在目标值的第一个token上（可以继续调用readValueAsTree()等方法读取该值）
+     *
+     * @param parser  解析器，尚未读取任何token，或停在起始值的第一个token上
+     * @param pointer 目标路径
+     * @return true - 找到目标值，false - 目标值不存在
+     * @throws IOException 读取或解析失败
+     */
+    public static boolean seek(JsonParser parser, JsonPointer pointer) throws IOException {
+        JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+        for (JsonPointer ptr = pointer; token != null && !ptr.matches(); ptr = ptr.tail()) {
+            boolean found;
+            if (token == JsonToken.START_OBJECT) {
+                found = seekField(parser, ptr.getMatchingProperty());
+            } else if (token == JsonToken.START_ARRAY) {
+                found = seekIndex(parser, ptr.getMatchingIndex());
+            } else {
+                found = false;
+            }
+            if (!found) {
+                return false;
+            }
+            token = parser.currentToken();
+        }
+        return token != null;
+    }
+
+    /**
+     * 一次扫描读取顶层字段，字段名不存在且可能是路径（见 {@link #isPath(String)}）时按路径读取
+     * 字段名可以包含“.”、“[”或以“/”开头，与路径同名时以字段为准：扫描顶层字段时同时比较字段名和路径的第一段，
+     * 路径第一段的值先暂存，到对象结束仍没有同名字段时再从中取出路径的值
+     *
+     * @param parser 解析器，需要设置ObjectCodec（由ObjectMapper创建的解析器已设置），尚未读取任何token
+     * @param key    字段名或路径
+     * @return 值，不存在时返回null
+     * @throws IOException 读取或解析失败
+     */
+    public static JsonNode readFieldOrPath(JsonParser parser, String key) throws IOException {
+        JsonPointer path = isPath(key) ? compile(key) : null;
+        JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+        if (token != JsonToken.START_OBJECT) {
+            return path != null && seek(parser, path) ? parser.readValueAsTree() : null;
+        }
+
+        String head = path == null || path.matches() ? null : path.getMatchingProperty();
+        JsonNode headValue = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (field.equals(key)) {
+                return parser.readValueAsTree();
+            }
+            if (headValue == null && field.equals(head)) {
+                headValue = parser.readValueAsTree();
+                continue;
+            }
+            parser.skipChildren();
+        }
+        if (headValue == null) {
+            return null;
+        }
+        JsonNode value = headValue.at(path.tail());
+        return value.isMissingNode() ? null : value;
+    }
+
+    /**
+     * 一次扫描提取多个路径的值
+     * 所有路径都找到后立即停止扫描；祖先路径和后代路径同时请求时，后代路径的值从祖先值中取出
+     *
+     * @param parser 解析器，需要设置ObjectCodec（由ObjectMapper创建的解析器已设置）
+     * @param paths  JSON Pointer 或 点号路径
+     * @return 路径 -> 值，不存在的路径不包含在结果中
+     * @throws IOException 读取或解析失败
+     */
+    public static Map<String, JsonNode> scan(JsonParser parser, Collection<String> paths) throws IOException {
+        PathTrie root = new PathTrie();
+        for (String path : paths) {
+            root.add(path, compile(path));
+        }
+
+        Scan scan = new Scan(paths.size());
+        JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+        if (token != null && scan.remaining > 0) {
+            scan(parser, root, scan);
+        }
+        return scan.result;
+    }
+
+    private static void scan(JsonParser parser, PathTrie node, Scan scan) throws IOException {
+        if (!node.targets.isEmpty()) {
+            JsonNode value = parser.readValueAsTree();
+            node.collect(value, scan);
+            return;
+        }
+
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                PathTrie child = node.children.get(parser.currentName());
+                parser.nextToken();
+                if (child == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                scan(parser, child, scan);
+                if (scan.remaining <= 0) {
+                    return;
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+                PathTrie child = node.children.get(String.valueOf(i));
+                if (child == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                scan(parser, child, scan);
+                if (scan.remaining <= 0) {
+                    return;
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private static boolean seekField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (field.equals(name)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean seekIndex(JsonParser parser, int index) throws IOException {
+        if (index < 0) {
+            return false;
+        }
+        for (int i = 0; ; i++) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return false;
+            }
+            if (i == index) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+    }
+
+    private static void appendSegment(StringBuilder pointer, StringBuilder segment) {
+        pointer.append(POINTER_SEPARATOR);
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '~') {
+                pointer.append("~0");
+            } else if (c == POINTER_SEPARATOR) {
+                pointer.append("~1");
+            } else {
+                pointer.append(c);
+            }
+        }
+        segment.setLength(0);
+    }
+
+    /**
+     * 扫描状态
+     */
+    private static final class Scan {
+        private final Map<String, JsonNode> result = new HashMap<>();
+        private int remaining;
+
+        private Scan(int remaining) {
+            this.remaining = remaining;
+        }
+    }
+
+    /**
+     * 按路径段组织的请求路径树
+     */
+    private static final class PathTrie {
+        private final Map<String, PathTrie> children = new HashMap<>();
+        private final List<String> targets = new ArrayList<>(1);
+
+        private void add(String path, JsonPointer pointer) {
+            PathTrie node = this;
+            for (JsonPointer ptr = pointer; !ptr.matches(); ptr = ptr.tail()) {
+                node = node.children.computeIfAbsent(ptr.getMatchingProperty(), k -> new PathTrie());
+            }
+            node.targets.add(path);
+        }
+
+        private void collect(JsonNode value, Scan scan) {
+            for (String target : targets) {
+                scan.result.put(target, value);
+                scan.remaining--;
+            }
+            for (Map.Entry<String, PathTrie> entry : children.entrySet()) {
+                JsonNode child = value.isArray() ? value.path(indexOf(entry.getKey())) : value.get(entry.getKey());
+                if (child != null && !child.isMissingNode()) {
+                    entry.getValue().collect(child, scan);
+                }
+            }
+        }
+
+        private static int indexOf(String segment) {
+            try {
+                return Integer.parseInt(segment);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.helper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 基于token流的JSON校验器
+ * 逐个读取token直到文档结束，不构建JsonNode树，也不解码字段值；
+ * 没有深度限制时直接skipChildren跳过根结构，否则逐个token统计嵌套深度
+ * <p>
+ * 合法的JSON：恰好包含一个根值（对象、数组或标量），之后只允许空白；空串、多个根值均不合法
+ * 解析的宽松程度（注释、单引号等）由JsonFactory的特性决定
+ * <p>
+ * 不可变，线程安全
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public final class JsonValidator {
+    /**
+     * 不限制
+     */
+    public static final int UNLIMITED = 0;
+
+    private final JsonFactory factory;
+    private final int maxDepth;
+    private final long maxLength;
+
+    /**
+     * 构造函数，不限制深度和长度
+     *
+     * @param factory 用于创建解析器的JsonFactory
+     */
+    public JsonValidator(JsonFactory factory) {
+        this(factory, UNLIMITED, UNLIMITED);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param factory   用于创建解析器的JsonFactory
+     * @param maxDepth  最大嵌套深度（对象、数组各算一层），{@link #UNLIMITED} 为不限制
+     * @param maxLength 最大长度，字符串按字符数、字节数组和输入流按字节数计算，{@link #UNLIMITED} 为不限制
+     */
+    public JsonValidator(JsonFactory factory, int maxDepth, long maxLength) {
+        this.factory = factory;
+        this.maxDepth = Math.max(maxDepth, UNLIMITED);
+        this.maxLength = Math.max(maxLength, UNLIMITED);
+    }
+
+    /**
+     * 校验字符串是否是合法的JSON
+     *
+     * @param json 字符串
+     * @return 合法返回true；null、超出限制、语法错误返回false
+     */
+    public boolean isValid(String json) {
+        if (json == null || exceeds(json.length())) {
+            return false;
+        }
+        try (JsonParser parser = factory.createParser(json)) {
+            return validate(parser);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 校验UTF-8编码的字节是否是合法的JSON
+     *
+     * @param json 字节数组
+     * @return 合法返回true；null、超出限制、语法错误返回false
+     */
+    public boolean isValid(byte[] json) {
+        if (json == null || exceeds(json.length)) {
+            return false;
+        }
+        try (JsonParser parser = factory.createParser(json)) {
+            return validate(parser);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 校验输入流的内容是否是合法的JSON，读到超出长度限制时立即停止
+     * 编码由JsonFactory自动检测（UTF-8/16/32）；校验完成后不关闭输入流
+     *
+     * @param inputStream 输入流
+     * @return 合法返回true；超出限制、语法错误、读取失败返回false
+     */
+    public boolean isValid(InputStream inputStream) {
+        InputStream source = maxLength == UNLIMITED ? inputStream : new LimitedInputStream(inputStream, maxLength);
+        try (JsonParser parser = factory.createParser(source)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return validate(parser);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean validate(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return false;
+        }
+        if (maxDepth == UNLIMITED) {
+            parser.skipChildren();
+        } else if (!skipLimited(parser, token)) {
+            return false;
+        }
+        return parser.nextToken() == null;
+    }
+
+    private boolean skipLimited(JsonParser parser, JsonToken token) throws IOException {
+        int depth = 0;
+        do {
+            if (token.isStructStart()) {
+                if (++depth > maxDepth) {
+                    return false;
+                }
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+        } while (depth > 0 && (token = parser.nextToken()) != null);
+        return depth == 0;
+    }
+
+    private boolean exceeds(long length) {
+        return maxLength != UNLIMITED && length > maxLength;
+    }
+
+    /**
+     * 超出长度限制时抛出IOException的输入流
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(long n) throws IOException {
+            count += n;
+            if (count > limit) {
+                throw new IOException("Input exceeds " + limit + " bytes");
+            }
+        }
+    }
+}
@@ -4,8 +4,9 @@
 
 package org.example.xhc.common.helper;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * 根据非常简单的替换规则格式化消息。可以对 1 个、2 个或更多参数进行替换。
@@ -26,14 +27,20 @@ import java.util.Map;
  * MessageFormatter.format("File name is C:\\\\{}.", "file.zip");
  * <p>
  * 将返回字符串“ile name is C:\file.zip”。
+ * <p>
+ * 格式化使用每个线程复用的StringBuilder（超过 {@link #MAX_POOLED_CAPACITY} 的不复用，参数的toString()中重入格式化时临时新建），
+ * 只有参数中出现Object[]时才创建检测循环引用的集合；模式经 {@link MessageTemplate#compile(String)} 预编译并缓存
  *
  * @author xiaohongchao
  * @since 1.0.0
  */
 public final class MessageFormatter {
-    private static final char DELIM_START = '{';
-    private static final String DELIM_STR = "{}";
-    private static final char ESCAPE_CHAR = '\\';
+    /**
+     * 复用的缓冲区的最大容量，格式化出超长消息后丢弃，避免每个线程长期持有大数组
+     */
+    static final int MAX_POOLED_CAPACITY = 1024;
+
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
 
     /**
      * 防止实例化
@@ -108,67 +115,44 @@ public final class MessageFormatter {
             return new FormattingTuple(messagePattern, null, null);
         }
 
-        int i = 0;
-        int j;
-        // use string builder for better multicore performance
-        StringBuilder sbuf = new StringBuilder(messagePattern.length() + 50);
-
-        int k;
-        for (k = 0; k < argArray.length; k++) {
-
-            j = messagePattern.indexOf(DELIM_STR, i);
-
-            if (j == -1) {
-                // no more variables
-                if (i == 0) {
-                    // this is a simple string
-                    return new FormattingTuple(messagePattern, argArray, throwable);
-                } else {
-                    // add the tail string which contains no variables and return the result.
-                    sbuf.append(messagePattern, i, messagePattern.length());
-                    return new FormattingTuple(sbuf.toString(), argArray, throwable);
-                }
-            } else {
-                if (isEscapedDelimeter(messagePattern, j)) {
-                    if (!isDoubleEscaped(messagePattern, j)) {
-                        // DELIM_START was escaped, thus should not be incremented
-                        k--;
-                        sbuf.append(messagePattern, i, j - 1);
-                        sbuf.append(DELIM_START);
-                        i = j + 1;
-                    } else {
-                        // The escape character preceding the delimiter start is
-                        // itself escaped: "abc x:\\{}"
-                        // we have to consume one backward slash
-                        sbuf.append(messagePattern, i, j - 1);
-                        deeplyAppendParameter(sbuf, argArray[k], new HashMap<>());
-                        i = j + 2;
-                    }
-                } else {
-                    // normal case
-                    sbuf.append(messagePattern, i, j);
-                    deeplyAppendParameter(sbuf, argArray[k], new HashMap<>());
-                    i = j + 2;
-                }
-            }
+        MessageTemplate template = MessageTemplate.compile(messagePattern);
+        if (!template.needsFormat(argArray)) {
+            return new FormattingTuple(messagePattern, argArray, throwable);
         }
-        // append the characters following the last {} pair.
-        sbuf.append(messagePattern, i, messagePattern.length());
-        return new FormattingTuple(sbuf.toString(), argArray, throwable);
+        return new FormattingTuple(bufferedFormat(template, argArray), argArray, throwable);
     }
 
-    private static boolean isEscapedDelimeter(String messagePattern, int delimeterStartIndex) {
-        if (delimeterStartIndex == 0) {
-            return false;
+    /**
+     * 使用线程复用的缓冲区格式化
+     *
+     * @param template 预编译的消息模式
+     * @param argArray 参数列表
+     * @return 格式化的消息
+     */
+    static String bufferedFormat(MessageTemplate template, Object[] argArray) {
+        Buffer buffer = BUFFER.get();
+        StringBuilder sbuf = buffer.acquire(template.getPattern().length() + 50);
+        try {
+            return template.formatTo(sbuf, argArray).toString();
+        } finally {
+            buffer.release(sbuf);
         }
-        return messagePattern.charAt(delimeterStartIndex - 1) == ESCAPE_CHAR;
     }
 
-    private static boolean isDoubleEscaped(String messagePattern, int delimeterStartIndex) {
-        return delimeterStartIndex >= 2 && messagePattern.charAt(delimeterStartIndex - 2) == ESCAPE_CHAR;
+    /**
+     * 追加一个参数，数组按元素输出
+     *
+     * @param sbuf 目标
+     * @param o    参数
+     */
+    static void appendParameter(StringBuilder sbuf, Object o) {
+        deeplyAppendParameter(sbuf, o, null);
     }
 
-    private static void deeplyAppendParameter(StringBuilder sbuf, Object o, Map<Object[], Object> seenMap) {
+    /**
+     * @param seenSet 正在输出的Object[]，用于检测循环引用；为null时在遇到Object[]时创建
+     */
+    private static void deeplyAppendParameter(StringBuilder sbuf, Object o, Set<Object[]> seenSet) {
         if (o == null) {
             sbuf.append("null");
             return;
@@ -195,7 +179,8 @@ public final class MessageFormatter {
             } else if (o instanceof double[]) {
                 doubleArrayAppend(sbuf, (double[]) o);
             } else {
-                objectArrayAppend(sbuf, (Object[]) o, seenMap);
+                objectArrayAppend(sbuf, (Object[]) o,
+                        seenSet != null ? seenSet : Collections.newSetFromMap(new IdentityHashMap<>()));
             }
         }
     }
@@ -216,19 +201,18 @@ public final class MessageFormatter {
         t.printStackTrace();
     }
 
-    private static void objectArrayAppend(StringBuilder sbuf, Object[] a, Map<Object[], Object> seenMap) {
+    private static void objectArrayAppend(StringBuilder sbuf, Object[] a, Set<Object[]> seenSet) {
         sbuf.append('[');
-        if (!seenMap.containsKey(a)) {
-            seenMap.put(a, null);
+        if (seenSet.add(a)) {
             final int len = a.length;
             for (int i = 0; i < len; i++) {
-                deeplyAppendParameter(sbuf, a[i], seenMap);
+                deeplyAppendParameter(sbuf, a[i], seenSet);
                 if (i != len - 1) {
                     sbuf.append(", ");
                 }
             }
             // allow repeats in siblings
-            seenMap.remove(a);
+            seenSet.remove(a);
         } else {
             sbuf.append("...");
         }
@@ -371,4 +355,33 @@ public final class MessageFormatter {
         return trimmed;
     }
 
+    /**
+     * 线程复用的缓冲区
+     */
+    private static final class Buffer {
+        private StringBuilder builder = new StringBuilder(256);
+        private boolean inUse;
+
+        /**
+         * 取出复用的StringBuilder；已被占用（参数的toString()中再次格式化）时新建一个
+         */
+        StringBuilder acquire(int capacity) {
+            if (inUse) {
+                return new StringBuilder(capacity);
+            }
+            inUse = true;
+            builder.setLength(0);
+            return builder;
+        }
+
+        void release(StringBuilder sbuf) {
+            if (sbuf != builder) {
+                return;
+            }
+            if (sbuf.capacity() > MAX_POOLED_CAPACITY) {
+                builder = new StringBuilder(256);
+            }
+            inUse = false;
+        }
+    }
 }
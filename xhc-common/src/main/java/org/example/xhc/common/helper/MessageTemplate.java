@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.helper;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import lombok.SneakyThrows;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 预编译的消息模式
+ * 模式只解析一次，记录每个格式化锚“{}”的位置和转义情况，格式化时不再查找“{}”和判断转义；
+ * 替换规则与 {@link MessageFormatter} 相同（参数用完后剩余部分原样输出，其中的转义不再处理）
+ * <p>
+ * {@link #compile(String)} 的结果缓存在有界的并发缓存中，以模式为键，超出 {@link #MAX_CACHED} 后淘汰最近最少使用的；
+ * 不可变，线程安全
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public final class MessageTemplate {
+    /**
+     * 缓存的最大模式数量，动态拼接的模式过多时不会无限增长
+     */
+    public static final int MAX_CACHED = 1024;
+
+    private static final String DELIM_STR = "{}";
+    private static final char DELIM_START = '{';
+    private static final char ESCAPE_CHAR = '\\';
+
+    /**
+     * 普通的格式化锚
+     */
+    private static final byte ANCHOR = 0;
+    /**
+     * 被“\”转义的锚，输出“{”，不消耗参数
+     */
+    private static final byte ESCAPED = 1;
+    /**
+     * 转义符本身被转义的锚“\\{}”，输出一个“\”和参数
+     */
+    private static final byte DOUBLE_ESCAPED = 2;
+
+    private static final LoadingCache<String, MessageTemplate> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED)
+            .build(CacheLoader.from(MessageTemplate::new));
+
+    private final String pattern;
+    private final int[] positions;
+    private final byte[] kinds;
+
+    private MessageTemplate(String pattern) {
+        this.pattern = pattern;
+        int[] p = new int[4];
+        byte[] k = new byte[4];
+        int count = 0;
+        int i = 0;
+        int j;
+        while ((j = pattern.indexOf(DELIM_STR, i)) != -1) {
+            if (count == p.length) {
+                p = Arrays.copyOf(p, count * 2);
+                k = Arrays.copyOf(k, count * 2);
+            }
+            p[count] = j;
+            if (j > 0 && pattern.charAt(j - 1) == ESCAPE_CHAR) {
+                boolean doubleEscaped = j >= 2 && pattern.charAt(j - 2) == ESCAPE_CHAR;
+                k[count] = doubleEscaped ? DOUBLE_ESCAPED : ESCAPED;
+                i = doubleEscaped ? j + 2 : j + 1;
+            } else {
+                k[count] = ANCHOR;
+                i = j + 2;
+            }
+            count++;
+        }
+        this.positions = Arrays.copyOf(p, count);
+        this.kinds = Arrays.copyOf(k, count);
+    }
+
+    /**
+     * 编译消息模式，相同的模式返回缓存的实例
+     *
+     * @param pattern 消息模式
+     * @return 预编译的消息模式
+     */
+    public static MessageTemplate compile(String pattern) {
+        Objects.requireNonNull(pattern);
+        return CACHE.getUnchecked(pattern);
+    }
+
+    /**
+     * @return 消息模式
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * 是否需要替换：模式中有“{}”并且有参数，否则格式化的结果就是模式本身
+     *
+     * @param args 参数列表
+     * @return 需要替换返回true
+     */
+    public boolean needsFormat(Object[] args) {
+        return positions.length > 0 && args != null && args.length > 0;
+    }
+
+    /**
+     * 格式化，参数不会剥离Throwable（需要时使用 {@link MessageFormatter#arrayFormat(String, Object[])}）
+     *
+     * @param args 参数列表
+     * @return 格式化的消息
+     */
+    public String format(Object... args) {
+        if (!needsFormat(args)) {
+            return pattern;
+        }
+        return MessageFormatter.bufferedFormat(this, args);
+    }
+
+    /**
+     * 格式化并追加到调用方提供的StringBuilder
+     *
+     * @param builder 目标
+     * @param args    参数列表
+     * @return builder
+     */
+    public StringBuilder formatTo(StringBuilder builder, Object... args) {
+        if (!needsFormat(args)) {
+            return builder.append(pattern);
+        }
+        int i = 0;
+        int k = 0;
+        for (int a = 0; a < positions.length && k < args.length; a++) {
+            int j = positions[a];
+            switch (kinds[a]) {
+                case ESCAPED:
+                    builder.append(pattern, i, j - 1).append(DELIM_START);
+                    i = j + 1;
+                    break;
+                case DOUBLE_ESCAPED:
+                    builder.append(pattern, i, j - 1);
+                    MessageFormatter.appendParameter(builder, args[k++]);
+                    i = j + 2;
+                    break;
+                default:
+                    builder.append(pattern, i, j);
+                    MessageFormatter.appendParameter(builder, args[k++]);
+                    i = j + 2;
+                    break;
+            }
+        }
+        return builder.append(pattern, i, pattern.length());
+    }
+
+    /**
+     * 格式化并追加到调用方提供的Appendable，StringBuilder直接写入，其他类型经过线程复用的缓冲区
+     *
+     * @param appendable 目标
+     * @param args       参数列表
+     * @param <A>        目标的类型
+     * @return appendable
+     */
+    @SneakyThrows
+    public <A extends Appendable> A formatTo(A appendable, Object... args) {
+        if (appendable instanceof StringBuilder) {
+            formatTo((StringBuilder) appendable, args);
+        } else {
+            appendable.append(format(args));
+        }
+        return appendable;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.SneakyThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * CSV并行加载器
+ * 将文件内存映射后按记录边界切分为若干块（跳过引号内的换行），各块在ForkJoinPool上并行绑定
+ * <p>
+ * 切分只需顺序扫描字节、跟踪引号状态，比逐行绑定对象快得多，所以并行的是耗时的绑定部分
+ * 文件第一行为表头，各块共用表头解析出的列定义
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+final class CsvParallelLoader {
+    /**
+     * 块的最小字节数，块太小时调度开销会超过并行收益
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * 块的最大字节数；单次映射不能超过Integer.MAX_VALUE，块在达到该大小后的第一个记录边界结束，为最后一条记录留出余量
+     */
+    private static final int MAX_CHUNK_SIZE = Integer.MAX_VALUE / 2;
+
+    /**
+     * 每个并行度对应的块数，多切几块以平衡各块绑定耗时的差异
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * 扫描记录边界时每次映射的窗口大小
+     */
+    private static final int SCAN_WINDOW_SIZE = 64 << 20;
+
+    /**
+     * 读取表头的reader的缓存键标识
+     */
+    private static final String HEADER = "header";
+
+    private static final byte QUOTE = '"';
+    private static final byte LINE_FEED = '\n';
+
+    /**
+     * 防止实例化
+     */
+    private CsvParallelLoader() {
+    }
+
+    /**
+     * 并行加载，结果保持文件中的行顺序
+     *
+     * @param codec     编解码器
+     * @param path      文件路径
+     * @param separator 列分隔符
+     * @param c         行类型
+     * @param pool      执行绑定的线程池
+     * @param <V>       行类型
+     * @return 行列表
+     */
+    static <V> List<V> load(JacksonCodec codec, Path path, char separator, Class<V> c, ForkJoinPool pool) {
+        Chunks chunks = split(path, pool.getParallelism());
+        if (chunks.buffers.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        ObjectReader reader = rowReader(codec, chunks.header, separator, c);
+        List<CompletableFuture<List<V>>> futures = chunks.buffers.stream()
+                .map(buffer -> CompletableFuture.supplyAsync(() -> CsvParallelLoader.<V>bind(reader, buffer), pool))
+                .collect(Collectors.toList());
+
+        List<List<V>> parts = new ArrayList<>(futures.size());
+        int size = 0;
+        for (CompletableFuture<List<V>> future : futures) {
+            List<V> part = join(future);
+            parts.add(part);
+            size += part.size();
+        }
+        List<V> result = new ArrayList<>(size);
+        parts.forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * 并行加载为无序的并行流
+     * 每块按需逐行绑定，不会一次性持有全部行；流的终止操作在哪个ForkJoinPool中调用，就在哪个池中并行
+     *
+     * @param codec     编解码器
+     * @param path      文件路径
+     * @param separator 列分隔符
+     * @param c         行类型
+     * @param <V>       行类型
+     * @return 无序的并行流
+     */
+    static <V> Stream<V> stream(JacksonCodec codec, Path path, char separator, Class<V> c) {
+        Chunks chunks = split(path, ForkJoinPool.getCommonPoolParallelism());
+        if (chunks.buffers.isEmpty()) {
+            return Stream.empty();
+        }
+
+        ObjectReader reader = rowReader(codec, chunks.header, separator, c);
+        return chunks.buffers.parallelStream()
+                .unordered()
+                .flatMap(buffer -> CsvParallelLoader.<V>stream(reader, buffer));
+    }
+
+    /**
+     * 等待块绑定完成，绑定失败时抛出原始异常，与顺序加载时相同
+     */
+    @SneakyThrows
+    private static <V> List<V> join(CompletableFuture<List<V>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    /**
+     * 映射文件并按记录边界切块
+     *
+     * @param path        文件路径
+     * @param parallelism 并行度
+     * @return 表头和各块内容
+     */
+    @SneakyThrows
+    private static Chunks split(Path path, int parallelism) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long chunkSize = Math.max(MIN_CHUNK_SIZE, size / ((long) Math.max(parallelism, 1) * CHUNKS_PER_THREAD));
+            chunkSize = Math.min(chunkSize, MAX_CHUNK_SIZE);
+            List<Long> boundaries = boundaries(channel, size, chunkSize);
+
+            Chunks chunks = new Chunks();
+            if (boundaries.size() < 2) {
+                return chunks;
+            }
+            //映射建立后不依赖于FileChannel，关闭通道后仍然有效
+            chunks.header = map(channel, 0, boundaries.get(1));
+            for (int i = 1; i < boundaries.size() - 1; i++) {
+                chunks.buffers.add(map(channel, boundaries.get(i), boundaries.get(i + 1)));
+            }
+            return chunks;
+        }
+    }
+
+    /**
+     * 顺序扫描文件，找出各块的起止位置
+     * 第一个边界之前是表头，之后每块都从一条记录的开头开始；引号内的换行不是记录边界
+     *
+     * @return 边界位置，首个为0，末个为文件大小
+     */
+    private static List<Long> boundaries(FileChannel channel, long size, long chunkSize) throws IOException {
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        boolean quoted = false;
+        //第一条记录（表头）结束后立即切分
+        long next = 0;
+        for (long windowStart = 0; windowStart < size; windowStart += SCAN_WINDOW_SIZE) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                    Math.min(SCAN_WINDOW_SIZE, size - windowStart));
+            for (int i = 0, limit = window.limit(); i < limit; i++) {
+                byte b = window.get(i);
+                if (b == QUOTE) {
+                    quoted = !quoted;
+                } else if (b == LINE_FEED && !quoted && windowStart + i >= next) {
+                    long boundary = windowStart + i + 1;
+                    if (boundary < size) {
+                        boundaries.add(boundary);
+                    }
+                    next = boundary + chunkSize;
+                }
+            }
+        }
+        if (size > 0) {
+            boundaries.add(size);
+        }
+        return boundaries;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long start, long end) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    }
+
+    /**
+     * 从表头解析列名，构建各块共用的reader
+     */
+    @SneakyThrows
+    private static ObjectReader rowReader(JacksonCodec codec, ByteBuffer header, char separator, Class<?> c) {
+        ObjectReader headerReader = codec.csv().reader(String[].class, Arrays.asList(separator, HEADER),
+                m -> m.readerFor(String[].class).with(CsvSchema.emptySchema().withColumnSeparator(separator)));
+        List<String> columns;
+        try (MappingIterator<String[]> iterator = headerReader.readValues(new ByteBufferBackedInputStream(header.duplicate()))) {
+            columns = iterator.hasNext() ? Arrays.asList(iterator.next()) : Collections.emptyList();
+        }
+
+        CsvSchema.Builder schema = CsvSchema.builder().setColumnSeparator(separator);
+        columns.forEach(schema::addColumn);
+        return codec.csv().reader(c, Arrays.asList(separator, columns), m -> m.readerFor(c).with(schema.build()));
+    }
+
+    @SneakyThrows
+    private static <V> List<V> bind(ObjectReader reader, ByteBuffer buffer) {
+        try (MappingIterator<V> iterator = reader.readValues(new ByteBufferBackedInputStream(buffer.duplicate()))) {
+            return iterator.readAll();
+        }
+    }
+
+    @SneakyThrows
+    private static <V> Stream<V> stream(ObjectReader reader, ByteBuffer buffer) {
+        MappingIterator<V> iterator = reader.readValues(new ByteBufferBackedInputStream(buffer.duplicate()));
+        Spliterator<V> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> close(iterator));
+    }
+
+    @SneakyThrows
+    private static void close(MappingIterator<?> iterator) {
+        iterator.close();
+    }
+
+    /**
+     * 切块结果
+     */
+    private static final class Chunks {
+        private ByteBuffer header;
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import lombok.SneakyThrows;
+
+import java.io.Closeable;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * CSV流式读取器
+ * 按需逐行读取和绑定，内存占用只与单行（或单批）大小有关，可以读取远大于堆内存的文件
+ * 使用完毕后需要关闭（推荐使用try-with-resources），关闭时同时关闭底层文件
+ * <pre>
+ * try (CsvStreamReader&lt;Order&gt; reader = JacksonUtils.openCsvReader(path, Order.class)) {
+ *     for (List&lt;Order&gt; batch = reader.nextBatch(1000); !batch.isEmpty(); batch = reader.nextBatch(1000)) {
+ *         orderDao.insertBatch(batch);
+ *     }
+ * }
+ * </pre>
+ * 非线程安全
+ *
+ * @param <V> 行类型
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public final class CsvStreamReader<V> implements Iterator<V>, Closeable {
+    private final MappingIterator<V> iterator;
+
+    /**
+     * 构造函数，通过 {@link JacksonUtils#openCsvReader} 创建
+     *
+     * @param iterator 行迭代器
+     */
+    CsvStreamReader(MappingIterator<V> iterator) {
+        this.iterator = iterator;
+    }
+
+    /**
+     * 是否还有下一行
+     *
+     * @return true - 有
+     */
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    /**
+     * 读取下一行
+     *
+     * @return 行对象
+     * @throws NoSuchElementException 没有更多行
+     */
+    @Override
+    public V next() {
+        return iterator.next();
+    }
+
+    /**
+     * 读取下一批行
+     *
+     * @param batchSize 每批最多的行数
+     * @return 行列表，不超过batchSize行；已读完时返回空列表
+     */
+    public List<V> nextBatch(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        List<V> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && iterator.hasNext()) {
+            batch.add(iterator.next());
+        }
+        return batch;
+    }
+
+    /**
+     * 转换为行的流，流关闭时关闭本读取器
+     *
+     * @return 行的流
+     */
+    public Stream<V> stream() {
+        Spliterator<V> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * 转换为按批的流，流关闭时关闭本读取器
+     *
+     * @param batchSize 每批最多的行数
+     * @return 批的流，每批不超过batchSize行
+     */
+    public Stream<List<V>> batches(int batchSize) {
+        Iterator<List<V>> batches = new Iterator<List<V>>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<V> next() {
+                if (!iterator.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return nextBatch(batchSize);
+            }
+        };
+        Spliterator<List<V>> spliterator = Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * 关闭读取器和底层文件
+     */
+    @Override
+    @SneakyThrows
+    public void close() {
+        iterator.close();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.SneakyThrows;
+
+import java.io.Closeable;
+import java.io.Flushable;
+
+/**
+ * CSV流式写入器
+ * 复用同一个SequenceWriter逐行追加，不需要先把全部行放入内存，可以输出远大于堆内存的文件
+ * 使用完毕后需要关闭（推荐使用try-with-resources），关闭时刷新并关闭底层文件
+ * <pre>
+ * try (CsvStreamWriter&lt;Order&gt; writer = JacksonUtils.openCsvWriter(path, Order.class)) {
+ *     orderDao.scan(writer::write);
+ * }
+ * </pre>
+ * 非线程安全
+ *
+ * @param <V> 行类型
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public final class CsvStreamWriter<V> implements Closeable, Flushable {
+    private final SequenceWriter writer;
+
+    /**
+     * 构造函数，通过 {@link JacksonUtils#openCsvWriter} 创建
+     *
+     * @param writer 序列写入器
+     */
+    CsvStreamWriter(SequenceWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * 写入一行
+     *
+     * @param row 行对象
+     * @return this
+     */
+    @SneakyThrows
+    public CsvStreamWriter<V> write(V row) {
+        writer.write(row);
+        return this;
+    }
+
+    /**
+     * 写入多行
+     *
+     * @param rows 行对象
+     * @return this
+     */
+    public CsvStreamWriter<V> writeAll(Iterable<? extends V> rows) {
+        for (V row : rows) {
+            write(row);
+        }
+        return this;
+    }
+
+    /**
+     * 将已写入的行刷新到文件
+     */
+    @Override
+    @SneakyThrows
+    public void flush() {
+        writer.flush();
+    }
+
+    /**
+     * 刷新并关闭底层文件
+     */
+    @Override
+    @SneakyThrows
+    public void close() {
+        writer.close();
+    }
+}
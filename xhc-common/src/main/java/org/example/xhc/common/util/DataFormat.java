@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+/**
+ * JacksonUtils支持的数据格式
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public enum DataFormat {
+    /**
+     * JSON
+     */
+    JSON,
+    /**
+     * YAML
+     */
+    YAML,
+    /**
+     * Java Properties
+     */
+    PROPERTIES,
+    /**
+     * CSV，带表头，逗号分隔；受限于CSV的格式，不支持深层次结构和嵌套类
+     */
+    CSV,
+    /**
+     * XML
+     */
+    XML,
+    /**
+     * Smile，二进制JSON，适用于服务间调用
+     */
+    SMILE,
+    /**
+     * CBOR（RFC 8949），二进制JSON，适用于服务间调用
+     */
+    CBOR
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DateDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.DateSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+/**
+ * java.util.Date 的序列化、反序列化模块
+ * ObjectMapper.setDateFormat 设置的SimpleDateFormat不是线程安全的，Jackson每次序列化都要clone一份；
+ * 本模块改用线程安全、预编译的DateTimeFormatter，并按秒缓存最近格式化的结果，时间戳大量重复时直接复用字符串
+ * <p>
+ * 与setDateFormat的行为保持一致：
+ * 1. 使用JVM默认时区
+ * 2. 开启 WRITE_DATES_AS_TIMESTAMPS 时输出毫秒时间戳
+ * 3. 字段上有 {@link JsonFormat} 注解时交给Jackson默认的序列化器、反序列化器处理
+ * 4. 反序列化支持毫秒时间戳，字符串不符合格式时交给Jackson默认的反序列化器处理
+ * <p>
+ * 线程安全
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public final class DateFormatModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 构造函数，使用JVM默认时区
+     *
+     * @param pattern 时间格式，例如 yyyy-MM-dd HH:mm:ss
+     */
+    public DateFormatModule(String pattern) {
+        this(pattern, ZoneId.systemDefault());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param pattern 时间格式，例如 yyyy-MM-dd HH:mm:ss
+     * @param zone    时区
+     */
+    public DateFormatModule(String pattern, ZoneId zone) {
+        super(DateFormatModule.class.getSimpleName());
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern).withZone(zone);
+        addSerializer(Date.class, new Serializer(formatter, !pattern.contains("S")));
+        addDeserializer(Date.class, new Deserializer(formatter));
+    }
+
+    /**
+     * 序列化器
+     */
+    static final class Serializer extends StdScalarSerializer<Date> implements ContextualSerializer {
+        private static final long serialVersionUID = 1L;
+        /**
+         * 缓存槽位数，必须是2的幂
+         */
+        private static final int CACHE_SIZE = 1024;
+
+        private final transient DateTimeFormatter formatter;
+        /**
+         * 按秒缓存的格式化结果，直接映射：epoch秒对槽位数取模；格式精确到秒以下时为null
+         * 槽位的写入没有同步，多线程竞争时最多重复格式化，不会读到不一致的值（Entry不可变）
+         */
+        private final transient Entry[] cache;
+
+        Serializer(DateTimeFormatter formatter, boolean cacheable) {
+            super(Date.class);
+            this.formatter = formatter;
+            this.cache = cacheable ? new Entry[CACHE_SIZE] : null;
+        }
+
+        @Override
+        public void serialize(Date value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            long millis = value.getTime();
+            if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+                generator.writeNumber(millis);
+            } else {
+                generator.writeString(format(millis));
+            }
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            JsonFormat.Value format = findFormatOverrides(provider, property, handledType());
+            if (format == null || isDefault(format)) {
+                return this;
+            }
+            return DateSerializer.instance.createContextual(provider, property);
+        }
+
+        String format(long millis) {
+            if (cache == null) {
+                return formatter.format(Instant.ofEpochMilli(millis));
+            }
+            long second = Math.floorDiv(millis, 1000L);
+            int slot = (int) (second & (CACHE_SIZE - 1));
+            Entry entry = cache[slot];
+            if (entry == null || entry.second != second) {
+                entry = new Entry(second, formatter.format(Instant.ofEpochSecond(second)));
+                cache[slot] = entry;
+            }
+            return entry.text;
+        }
+    }
+
+    /**
+     * 反序列化器
+     */
+    static final class Deserializer extends StdScalarDeserializer<Date> implements ContextualDeserializer {
+        private static final long serialVersionUID = 1L;
+
+        private final transient DateTimeFormatter formatter;
+
+        Deserializer(DateTimeFormatter formatter) {
+            super(Date.class);
+            this.formatter = formatter;
+        }
+
+        @Override
+        public Date deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.hasToken(JsonToken.VALUE_STRING)) {
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return Date.from(LocalDateTime.parse(text, formatter).atZone(formatter.getZone()).toInstant());
+                } catch (DateTimeParseException e) {
+                    //其他格式（例如ISO-8601）交给默认的反序列化器
+                    return DateDeserializers.DateDeserializer.instance.deserialize(parser, context);
+                }
+            }
+            if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return new Date(parser.getLongValue());
+            }
+            return DateDeserializers.DateDeserializer.instance.deserialize(parser, context);
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+                throws JsonMappingException {
+            JsonFormat.Value format = findFormatOverrides(context, property, handledType());
+            if (format == null || isDefault(format)) {
+                return this;
+            }
+            return DateDeserializers.DateDeserializer.instance.createContextual(context, property);
+        }
+    }
+
+    private static boolean isDefault(JsonFormat.Value format) {
+        return !format.hasPattern() && !format.hasLocale() && !format.hasTimeZone() && !format.hasLenient()
+                && format.getShape() == JsonFormat.Shape.ANY;
+    }
+
+    /**
+     * 缓存项
+     */
+    private static final class Entry {
+        private final long second;
+        private final String text;
+
+        Entry(long second, String text) {
+            this.second = second;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,740 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.dataformat.javaprop.JavaPropsMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.fasterxml.jackson.datatype.guava.GuavaModule;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.example.xhc.common.codegen.GeneratedCodecModule;
+import org.example.xhc.common.codegen.JsonCodegen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.example.xhc.common.constant.SystemConstants.CSV_DEFAULT_COLUMN_SEPARATOR;
+
+/**
+ * Jackson编解码器
+ * 按一组配置（序列化级别、是否缩进）构建各数据格式的ObjectMapper，构建完成后不再修改，是不可变且线程安全的
+ * 不同子系统可以各自持有不同配置的实例并发使用，互不影响，也不需要加锁
+ * <p>
+ * 通过 {@link JacksonUtils#builder()} 或 {@link #builder()} 创建
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@Getter
+public final class JacksonCodec {
+    private static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+    /**
+     * 所有配置、所有格式共用，格式化缓存也随之共用
+     */
+    private static final DateFormatModule DATE_FORMAT_MODULE = new DateFormatModule(DATE_TIME_PATTERN);
+
+    /**
+     * 序列化级别，默认只序列化非空的字段
+     */
+    private final JsonInclude.Include serializationInclusion;
+
+    /**
+     * 是否缩进输出
+     */
+    private final boolean indentOutput;
+
+    /**
+     * 是否只使用Bean内省，为true时不注册编译期生成的编解码器（见 {@link JsonCodegen}），只用于对照测试
+     */
+    @Getter(AccessLevel.NONE)
+    private final boolean beanIntrospectionOnly;
+
+    @Getter(AccessLevel.NONE)
+    private final ObjectMapper mapper;
+    @Getter(AccessLevel.NONE)
+    private final ObjectCodecCache jsonCodecs;
+
+    /**
+     * 非JSON格式的ObjectMapper在首次使用时才创建
+     * 只使用JSON的服务不会加载YAML、XML、CSV、Properties、Smile、CBOR相关的类，也不会为它们注册模块
+     */
+    @Getter(AccessLevel.NONE)
+    private final LazyCodecCache yamlCodecs = new LazyCodecCache(() -> YamlMapperFactory.create(this));
+    @Getter(AccessLevel.NONE)
+    private final LazyCodecCache propsCodecs = new LazyCodecCache(() -> PropsMapperFactory.create(this));
+    @Getter(AccessLevel.NONE)
+    private final LazyCodecCache csvCodecs = new LazyCodecCache(() -> CsvMapperFactory.create(this));
+    @Getter(AccessLevel.NONE)
+    private final LazyCodecCache xmlCodecs = new LazyCodecCache(() -> XmlMapperFactory.create(this));
+    @Getter(AccessLevel.NONE)
+    private final LazyCodecCache smileCodecs = new LazyCodecCache(() -> SmileMapperFactory.create(this));
+    @Getter(AccessLevel.NONE)
+    private final LazyCodecCache cborCodecs = new LazyCodecCache(() -> CborMapperFactory.create(this));
+
+    /**
+     * 构造函数
+     *
+     * @param serializationInclusion 序列化级别，为null时使用NON_NULL
+     * @param indentOutput           是否缩进输出
+     */
+    @Builder(toBuilder = true)
+    private JacksonCodec(JsonInclude.Include serializationInclusion, boolean indentOutput) {
+        this(serializationInclusion, indentOutput, false);
+    }
+
+    private JacksonCodec(JsonInclude.Include serializationInclusion, boolean indentOutput, boolean beanIntrospectionOnly) {
+        this.serializationInclusion = serializationInclusion == null ? JsonInclude.Include.NON_NULL : serializationInclusion;
+        this.indentOutput = indentOutput;
+        this.beanIntrospectionOnly = beanIntrospectionOnly;
+
+        this.mapper = config(new ObjectMapper());
+        this.jsonCodecs = new ObjectCodecCache(mapper, ObjectCodecCache.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * 只使用Bean内省的默认配置，不注册编译期生成的编解码器，只用于对照测试
+     *
+     * @return JacksonCodec
+     */
+    static JacksonCodec beanIntrospectionOnly() {
+        return new JacksonCodec(null, false, true);
+    }
+
+    private <M extends ObjectMapper> M config(M objectMapper) {
+        //配置序列化级别
+        objectMapper.setSerializationInclusion(serializationInclusion);
+        //配置JSON缩进支持
+        objectMapper.configure(SerializationFeature.INDENT_OUTPUT, indentOutput);
+
+        //序列化BigDecimal时之间输出原始数字还是科学计数, 默认false, 即是否以toPlainString()科学计数方式来输出
+        objectMapper.disable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+        //允许将JSON空字符串强制转换为null对象值
+        objectMapper.enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
+
+        //允许单个数值当做数组处理
+        objectMapper.enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+
+        //禁止重复键, 抛出异常
+        objectMapper.enable(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
+        //禁止使用int代表Enum的order()來反序列化Enum, 抛出异常
+        objectMapper.enable(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS);
+        //有属性不能映射的时候不报错
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        //使用null表示集合类型字段是时不抛异常
+        objectMapper.disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+        //对象为空时不抛异常
+        objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+        //允许在JSON中使用c/c++风格注释
+        objectMapper.enable(JsonParser.Feature.ALLOW_COMMENTS);
+        //允许未知字段
+        objectMapper.enable(JsonGenerator.Feature.IGNORE_UNKNOWN);
+        //在JSON中允许未引用的字段名
+        objectMapper.enable(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES);
+        //时间格式
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.setDateFormat(new SimpleDateFormat(DATE_TIME_PATTERN));
+        //Date字段使用线程安全的格式化，上面的DateFormat只用于Map的Date键等其他场景
+        objectMapper.registerModule(DATE_FORMAT_MODULE);
+        //识别单引号
+        objectMapper.enable(JsonParser.Feature.ALLOW_SINGLE_QUOTES);
+        //识别Java8时间
+        objectMapper.registerModule(new ParameterNamesModule());
+        objectMapper.registerModule(new Jdk8Module());
+        objectMapper.registerModule(new JavaTimeModule());
+        //识别Guava包的类
+        objectMapper.registerModule(new GuavaModule());
+        //编译期生成的编解码器只用于JSON；其他格式依赖Bean的元数据（属性、列顺序）或有各自的输出约定，保持Bean序列化
+        if (!beanIntrospectionOnly && JsonFactory.FORMAT_NAME_JSON.equals(objectMapper.getFactory().getFormatName())) {
+            objectMapper.registerModule(new GeneratedCodecModule());
+        }
+        return objectMapper;
+    }
+
+    /**
+     * JSON反序列化
+     *
+     * @param json json串
+     * @param c    目标类型
+     * @param <V>  目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V from(String json, Class<V> c) {
+        return jsonCodecs.reader(c).readValue(json);
+    }
+
+    /**
+     * JSON反序列化
+     *
+     * @param json json串
+     * @param type 目标类型
+     * @param <V>  目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V from(String json, TypeReference<V> type) {
+        return jsonCodecs.reader(type.getType()).readValue(json);
+    }
+
+    /**
+     * JSON反序列化
+     *
+     * @param inputStream 输入流
+     * @param c           目标类型
+     * @param <V>         目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V from(InputStream inputStream, Class<V> c) {
+        return jsonCodecs.reader(c).readValue(inputStream);
+    }
+
+    /**
+     * JSON反序列化
+     *
+     * @param inputStream 输入流
+     * @param type        目标类型
+     * @param <V>         目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V from(InputStream inputStream, TypeReference<V> type) {
+        return jsonCodecs.reader(type.getType()).readValue(inputStream);
+    }
+
+    /**
+     * 序列化为JSON
+     *
+     * @param v 值
+     * @return json串
+     */
+    @SneakyThrows
+    public String to(Object v) {
+        return jsonCodecs.writer(typeOf(v)).writeValueAsString(v);
+    }
+
+    /**
+     * 反序列化Yaml字符串
+     *
+     * @param yaml yaml串
+     * @param c    目标类型
+     * @param <V>  目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V fromYaml(String yaml, Class<V> c) {
+        return yaml().reader(c).readValue(yaml);
+    }
+
+    /**
+     * 反序列化Yaml字符串
+     *
+     * @param yaml yaml串
+     * @param type 目标类型
+     * @param <V>  目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V fromYaml(String yaml, TypeReference<V> type) {
+        return yaml().reader(type.getType()).readValue(yaml);
+    }
+
+    /**
+     * 序列化为YAML
+     *
+     * @param v 值
+     * @return yaml串
+     */
+    @SneakyThrows
+    public String toYaml(Object v) {
+        return yaml().writer(typeOf(v)).writeValueAsString(v);
+    }
+
+    /**
+     * 反序列化Properties字符串
+     *
+     * @param props properties内容
+     * @param c     目标类型
+     * @param <V>   目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V fromProp(String props, Class<V> c) {
+        return props().reader(c).readValue(props);
+    }
+
+    /**
+     * 序列化为Properties
+     *
+     * @param v 值
+     * @return properties内容
+     */
+    @SneakyThrows
+    public String toProp(Object v) {
+        return props().writer(typeOf(v)).writeValueAsString(v);
+    }
+
+    /**
+     * 反序列化CSV字符串（首行为表头，逗号分隔）
+     *
+     * @param csv csv内容
+     * @param c   行类型
+     * @param <V> 行类型
+     * @return 行列表
+     */
+    @SneakyThrows
+    public <V> List<V> fromCsv(String csv, Class<V> c) {
+        return csvReader(CSV_DEFAULT_COLUMN_SEPARATOR.charAt(0), c).<V>readValues(csv).readAll();
+    }
+
+    /**
+     * 序列化为CSV（带表头，逗号分隔）
+     *
+     * @param list 行列表，不能为空
+     * @param <V>  行类型
+     * @return csv内容
+     */
+    @SneakyThrows
+    public <V> String toCsv(List<V> list) {
+        return csvWriter(CSV_DEFAULT_COLUMN_SEPARATOR.charAt(0), list.get(0).getClass()).writeValueAsString(list);
+    }
+
+    /**
+     * 反序列化Xml字符串
+     *
+     * @param xml xml串
+     * @param c   目标类型
+     * @param <V> 目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V fromXml(String xml, Class<V> c) {
+        return xml().reader(c).readValue(xml);
+    }
+
+    /**
+     * 反序列化Xml字符串
+     *
+     * @param xml  xml串
+     * @param type 目标类型
+     * @param <V>  目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V fromXml(String xml, TypeReference<V> type) {
+        return xml().reader(type.getType()).readValue(xml);
+    }
+
+    /**
+     * 序列化为XML
+     *
+     * @param v 值
+     * @return xml串
+     */
+    @SneakyThrows
+    public String toXml(Object v) {
+        return xml().writer(typeOf(v)).writeValueAsString(v);
+    }
+
+    /**
+     * 序列化为Smile
+     *
+     * @param v 值
+     * @return Smile字节数组
+     */
+    @SneakyThrows
+    public byte[] toSmile(Object v) {
+        return smile().writer(typeOf(v)).writeValueAsBytes(v);
+    }
+
+    /**
+     * 反序列化Smile
+     *
+     * @param smile Smile字节数组
+     * @param c     目标类型
+     * @param <V>   目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V fromSmile(byte[] smile, Class<V> c) {
+        return smile().reader(c).readValue(smile);
+    }
+
+    /**
+     * 序列化为CBOR
+     *
+     * @param v 值
+     * @return CBOR字节数组
+     */
+    @SneakyThrows
+    public byte[] toCbor(Object v) {
+        return cbor().writer(typeOf(v)).writeValueAsBytes(v);
+    }
+
+    /**
+     * 反序列化CBOR
+     *
+     * @param cbor CBOR字节数组
+     * @param c    目标类型
+     * @param <V>  目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V fromCbor(byte[] cbor, Class<V> c) {
+        return cbor().reader(c).readValue(cbor);
+    }
+
+    /**
+     * 序列化为字节数组
+     * 直接输出UTF-8字节，不经过中间的String；输出缓冲区按线程复用
+     *
+     * @param format 数据格式
+     * @param v      值，CSV格式时为行对象或行对象的集合
+     * @return 字节数组
+     */
+    @SneakyThrows
+    public byte[] toBytes(DataFormat format, Object v) {
+        ObjectWriter writer = writer(format, v);
+        ByteArrayBuilder builder = ByteArrayBuilderPool.acquire();
+        try {
+            write(writer, builder, v);
+            return builder.toByteArray();
+        } finally {
+            ByteArrayBuilderPool.release(builder);
+        }
+    }
+
+    /**
+     * 序列化到输出流，例如直接写入Servlet响应的输出流
+     * 写完后刷新但不关闭输出流
+     *
+     * @param format       数据格式
+     * @param outputStream 输出流
+     * @param v            值，CSV格式时为行对象或行对象的集合
+     */
+    @SneakyThrows
+    public void writeTo(DataFormat format, OutputStream outputStream, Object v) {
+        write(writer(format, v), outputStream, v);
+    }
+
+    /**
+     * 序列化到ByteBuffer，从当前position开始写入，写完后position移到内容末尾
+     *
+     * @param format 数据格式
+     * @param buffer 缓冲区，剩余空间不足时抛出BufferOverflowException
+     * @param v      值，CSV格式时为行对象或行对象的集合
+     */
+    @SneakyThrows
+    public void writeTo(DataFormat format, ByteBuffer buffer, Object v) {
+        write(writer(format, v), new ByteBufferBackedOutputStream(buffer), v);
+    }
+
+    /**
+     * 从字节数组的指定区间反序列化，不需要先复制出子数组或转换为String
+     *
+     * @param format 数据格式
+     * @param bytes  字节数组
+     * @param offset 起始位置
+     * @param len    长度
+     * @param c      目标类型，CSV格式时为行类型的数组类型，例如 Order[].class
+     * @param <V>    目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public <V> V from(DataFormat format, byte[] bytes, int offset, int len, Class<V> c) {
+        return reader(format, c).readValue(bytes, offset, len);
+    }
+
+    /**
+     * JSON格式的ObjectMapper，仅供本包只读使用（创建解析器、读取树），不能修改其配置
+     *
+     * @return ObjectMapper
+     */
+    ObjectMapper jsonMapper() {
+        return mapper;
+    }
+
+    ObjectCodecCache json() {
+        return jsonCodecs;
+    }
+
+    ObjectCodecCache yaml() {
+        return yamlCodecs.get();
+    }
+
+    ObjectCodecCache props() {
+        return propsCodecs.get();
+    }
+
+    ObjectCodecCache csv() {
+        return csvCodecs.get();
+    }
+
+    ObjectCodecCache xml() {
+        return xmlCodecs.get();
+    }
+
+    ObjectCodecCache smile() {
+        return smileCodecs.get();
+    }
+
+    ObjectCodecCache cbor() {
+        return cborCodecs.get();
+    }
+
+    /**
+     * 带有表头和指定分隔符的CSV reader
+     *
+     * @param separator 列分隔符
+     * @param c         行类型
+     * @return ObjectReader
+     */
+    ObjectReader csvReader(char separator, Class<?> c) {
+        return csv().reader(c, separator, m -> m.reader(
+                CsvSchema.builder().setColumnSeparator(separator).setUseHeader(true).build()).forType(c));
+    }
+
+    /**
+     * 带有表头和指定分隔符的CSV writer
+     *
+     * @param separator 列分隔符
+     * @param type      行类型
+     * @return ObjectWriter
+     */
+    ObjectWriter csvWriter(char separator, Class<?> type) {
+        return csvWriter(separator, type, true);
+    }
+
+    /**
+     * 指定分隔符的CSV writer
+     *
+     * @param separator 列分隔符
+     * @param type      行类型
+     * @param header    是否输出表头，向已有内容的文件追加时不再输出表头
+     * @return ObjectWriter
+     */
+    ObjectWriter csvWriter(char separator, Class<?> type, boolean header) {
+        return csv().writer(type, Arrays.asList(separator, header), m -> {
+            CsvSchema schema = ((CsvMapper) m).schemaFor(type).withColumnSeparator(separator);
+            return m.writer(header ? schema.withHeader() : schema.withoutHeader());
+        });
+    }
+
+    static Class<?> typeOf(Object v) {
+        return v == null ? null : v.getClass();
+    }
+
+    /**
+     * 获取指定数据格式的缓存
+     *
+     * @param format 数据格式
+     * @return ObjectReader/ObjectWriter缓存
+     */
+    ObjectCodecCache codecs(DataFormat format) {
+        switch (format) {
+            case YAML:
+                return yaml();
+            case PROPERTIES:
+                return props();
+            case CSV:
+                return csv();
+            case XML:
+                return xml();
+            case SMILE:
+                return smile();
+            case CBOR:
+                return cbor();
+            case JSON:
+            default:
+                return json();
+        }
+    }
+
+    /**
+     * 获取指定数据格式、目标类型的ObjectReader，CSV格式使用带表头、逗号分隔的Schema
+     *
+     * @param format 数据格式
+     * @param c      目标类型
+     * @return ObjectReader
+     */
+    ObjectReader reader(DataFormat format, Class<?> c) {
+        if (format == DataFormat.CSV) {
+            //表头模式的Schema从表头读取列名，与目标类型无关
+            return csvReader(CSV_DEFAULT_COLUMN_SEPARATOR.charAt(0), c);
+        }
+        return codecs(format).reader(c);
+    }
+
+    /**
+     * 获取指定数据格式、值类型的ObjectWriter，CSV格式按行类型生成带表头、逗号分隔的Schema
+     *
+     * @param format 数据格式
+     * @param v      值
+     * @return ObjectWriter
+     */
+    ObjectWriter writer(DataFormat format, Object v) {
+        if (format == DataFormat.CSV) {
+            return csvWriter(CSV_DEFAULT_COLUMN_SEPARATOR.charAt(0), csvRowType(v));
+        }
+        return codecs(format).writer(typeOf(v));
+    }
+
+    private static Class<?> csvRowType(Object v) {
+        if (v instanceof Collection && !((Collection<?>) v).isEmpty()) {
+            return ((Collection<?>) v).iterator().next().getClass();
+        }
+        if (v != null && v.getClass().isArray()) {
+            return v.getClass().getComponentType();
+        }
+        return typeOf(v);
+    }
+
+    private static void write(ObjectWriter writer, OutputStream outputStream, Object v) throws IOException {
+        try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.writeValue(generator, v);
+        }
+    }
+
+    /**
+     * 按线程复用的ByteArrayBuilder
+     * 同一线程嵌套序列化（例如自定义序列化器内再次调用toBytes）时，内层调用使用新建的实例
+     */
+    private static final class ByteArrayBuilderPool {
+        private static final ThreadLocal<ByteArrayBuilder> POOL = ThreadLocal.withInitial(ByteArrayBuilder::new);
+
+        private ByteArrayBuilderPool() {
+        }
+
+        private static ByteArrayBuilder acquire() {
+            ByteArrayBuilder builder = POOL.get();
+            if (builder == null) {
+                return new ByteArrayBuilder();
+            }
+            POOL.set(null);
+            return builder;
+        }
+
+        private static void release(ByteArrayBuilder builder) {
+            //reset只保留当前（最大的）一块缓冲区，单块大小有上限，不会无限占用内存
+            builder.reset();
+            POOL.set(builder);
+        }
+    }
+
+    /**
+     * 延迟创建的ObjectReader/ObjectWriter缓存，首次访问时创建ObjectMapper（双重检查锁）
+     */
+    private static final class LazyCodecCache {
+        private final Supplier<ObjectMapper> factory;
+        private volatile ObjectCodecCache cache;
+
+        private LazyCodecCache(Supplier<ObjectMapper> factory) {
+            this.factory = factory;
+        }
+
+        private ObjectCodecCache get() {
+            ObjectCodecCache result = cache;
+            if (result == null) {
+                synchronized (this) {
+                    result = cache;
+                    if (result == null) {
+                        result = new ObjectCodecCache(factory.get(), ObjectCodecCache.DEFAULT_MAX_SIZE);
+                        cache = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 各数据格式ObjectMapper的创建放在独立的嵌套类中，
+     * 这样相应的数据格式类只会在嵌套类首次使用时才被加载和校验，而不是随JacksonCodec一起加载
+     */
+    private static final class YamlMapperFactory {
+        private static ObjectMapper create(JacksonCodec codec) {
+            YAMLMapper yamlMapper = codec.config(new YAMLMapper());
+            //使用系统换行符
+            yamlMapper.enable(YAMLGenerator.Feature.USE_PLATFORM_LINE_BREAKS);
+            //允许注释
+            yamlMapper.enable(JsonParser.Feature.ALLOW_COMMENTS);
+            yamlMapper.enable(JsonParser.Feature.ALLOW_YAML_COMMENTS);
+            return yamlMapper;
+        }
+    }
+
+    private static final class PropsMapperFactory {
+        private static ObjectMapper create(JacksonCodec codec) {
+            JavaPropsMapper propsMapper = codec.config(new JavaPropsMapper());
+            //允许注释
+            propsMapper.enable(JsonParser.Feature.ALLOW_COMMENTS);
+            propsMapper.enable(JsonParser.Feature.ALLOW_YAML_COMMENTS);
+            return propsMapper;
+        }
+    }
+
+    private static final class CsvMapperFactory {
+        private static ObjectMapper create(JacksonCodec codec) {
+            CsvMapper csvMapper = codec.config(new CsvMapper());
+            //去掉头尾空格
+            csvMapper.enable(CsvParser.Feature.TRIM_SPACES);
+            //忽略空行
+            csvMapper.enable(CsvParser.Feature.SKIP_EMPTY_LINES);
+            csvMapper.enable(CsvParser.Feature.WRAP_AS_ARRAY);
+            return csvMapper;
+        }
+    }
+
+    private static final class XmlMapperFactory {
+        private static ObjectMapper create(JacksonCodec codec) {
+            return codec.config(new XmlMapper());
+        }
+    }
+
+    private static final class SmileMapperFactory {
+        private static ObjectMapper create(JacksonCodec codec) {
+            return codec.config(new SmileMapper());
+        }
+    }
+
+    private static final class CborMapperFactory {
+        private static ObjectMapper create(JacksonCodec codec) {
+            return codec.config(new CBORMapper());
+        }
+    }
+}
@@ -5,77 +5,71 @@
 package org.example.xhc.common.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
-import com.fasterxml.jackson.dataformat.csv.CsvParser;
-import com.fasterxml.jackson.dataformat.csv.CsvSchema;
-import com.fasterxml.jackson.dataformat.javaprop.JavaPropsMapper;
 import com.fasterxml.jackson.dataformat.javaprop.JavaPropsSchema;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
-import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
-import com.fasterxml.jackson.datatype.guava.GuavaModule;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.google.common.cache.CacheStats;
+import com.google.common.io.CharStreams;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.ObjectUtils;
+import org.example.xhc.common.helper.JsonPatch;
+import org.example.xhc.common.helper.JsonPathScanner;
+import org.example.xhc.common.helper.JsonValidator;
 
 import java.io.*;
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static org.example.xhc.common.constant.SystemConstants.CSV_DEFAULT_COLUMN_SEPARATOR;
 
 /**
  * Jackson工具类
- * 可以进行JSON、XML、YAML、CSV、PROP和POJO相互转化
+ * 可以进行JSON、XML、YAML、CSV、PROP、Smile、CBOR和POJO相互转化
  *
  * @author xiaohongchao
  * @since 1.0.0
  */
 public final class JacksonUtils {
-    private static ObjectMapper mapper;
-    private static YAMLMapper yamlMapper;
-    private static JavaPropsMapper propsMapper;
-    private static CsvMapper csvMapper;
-    private static XmlMapper xmlMapper;
-
     /**
-     * 序列化级别，默认只序列化属性值发生过改变的字段
+     * NDJSON writer的缓存键标识
      */
-    private static JsonInclude.Include defaultPropertyInclusion = JsonInclude.Include.NON_NULL;
+    private static final String JSON_LINES = "jsonLines";
 
     /**
-     * 是否缩进JSON格式
+     * 当前默认编解码器
+     * 编解码器本身不可变，修改默认配置时构建新实例后整体替换，正在使用旧实例的线程不受影响
      */
-    private static boolean isEnableIndentOutput = false;
+    private static volatile JacksonCodec codec = JacksonCodec.builder().build();
 
-    static {
-        //初始化
-        initMapper();
-        //配置序列化级别
-        configPropertyInclusion();
-        //配置JSON缩进支持
-        configIndentOutput();
-        //配置普通属性
-        configCommon();
-        //配置特殊属性
-        configSpecial();
-    }
+    /**
+     * Resources目录下文件的解析结果缓存，默认关闭
+     */
+    private static volatile ResourceCache resourceCache;
 
     /**
      * 私有化工具类构造函数
@@ -83,91 +77,29 @@ public final class JacksonUtils {
     private JacksonUtils() {
     }
 
-    private static void initMapper() {
-        mapper = new ObjectMapper();
-        yamlMapper = new YAMLMapper();
-        propsMapper = new JavaPropsMapper();
-        csvMapper = new CsvMapper();
-        xmlMapper = new XmlMapper();
-    }
-
-    private static void configCommon() {
-        config(mapper);
-        config(yamlMapper);
-        config(propsMapper);
-        config(csvMapper);
-        config(xmlMapper);
-    }
-
-    private static void configPropertyInclusion() {
-        mapper.setSerializationInclusion(defaultPropertyInclusion);
-        yamlMapper.setSerializationInclusion(defaultPropertyInclusion);
-        propsMapper.setSerializationInclusion(defaultPropertyInclusion);
-        csvMapper.setSerializationInclusion(defaultPropertyInclusion);
-        xmlMapper.setSerializationInclusion(defaultPropertyInclusion);
-    }
-
-    private static void configIndentOutput() {
-        mapper.configure(SerializationFeature.INDENT_OUTPUT, isEnableIndentOutput);
-        yamlMapper.configure(SerializationFeature.INDENT_OUTPUT, isEnableIndentOutput);
-        propsMapper.configure(SerializationFeature.INDENT_OUTPUT, isEnableIndentOutput);
-        csvMapper.configure(SerializationFeature.INDENT_OUTPUT, isEnableIndentOutput);
-        xmlMapper.configure(SerializationFeature.INDENT_OUTPUT, isEnableIndentOutput);
-    }
-
-    private static void configSpecial() {
-        //使用系统换行符
-        yamlMapper.enable(YAMLGenerator.Feature.USE_PLATFORM_LINE_BREAKS);
-        //允许注释
-        yamlMapper.enable(JsonParser.Feature.ALLOW_COMMENTS);
-        yamlMapper.enable(JsonParser.Feature.ALLOW_YAML_COMMENTS);
-        //允许注释
-        propsMapper.enable(JsonParser.Feature.ALLOW_COMMENTS);
-        propsMapper.enable(JsonParser.Feature.ALLOW_YAML_COMMENTS);
-        //去掉头尾空格
-        csvMapper.enable(CsvParser.Feature.TRIM_SPACES);
-        //忽略空行
-        csvMapper.enable(CsvParser.Feature.SKIP_EMPTY_LINES);
-        csvMapper.enable(CsvParser.Feature.WRAP_AS_ARRAY);
-    }
-
-    private static void config(ObjectMapper objectMapper) {
-        //序列化BigDecimal时之间输出原始数字还是科学计数, 默认false, 即是否以toPlainString()科学计数方式来输出
-        objectMapper.disable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
-        //允许将JSON空字符串强制转换为null对象值
-        objectMapper.enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
-
-        //允许单个数值当做数组处理
-        objectMapper.enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
-
-        //禁止重复键, 抛出异常
-        objectMapper.enable(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
-        //禁止使用int代表Enum的order()來反序列化Enum, 抛出异常
-        objectMapper.enable(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS);
-        //有属性不能映射的时候不报错
-        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-        //使用null表示集合类型字段是时不抛异常
-        objectMapper.disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
-        //对象为空时不抛异常
-        objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
-
-        //允许在JSON中使用c/c++风格注释
-        objectMapper.enable(JsonParser.Feature.ALLOW_COMMENTS);
-        //允许未知字段
-        objectMapper.enable(JsonGenerator.Feature.IGNORE_UNKNOWN);
-        //在JSON中允许未引用的字段名
-        objectMapper.enable(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES);
-        //时间格式
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"));
-        //识别单引号
-        objectMapper.enable(JsonParser.Feature.ALLOW_SINGLE_QUOTES);
-        //识别Java8时间
-        objectMapper.registerModule(new ParameterNamesModule());
-        objectMapper.registerModule(new Jdk8Module());
-        objectMapper.registerModule(new JavaTimeModule());
-        //识别Guava包的类
-        objectMapper.registerModule(new GuavaModule());
+    /**
+     * 创建编解码器构建器
+     * 不同子系统需要不同的序列化级别、缩进配置时，各自构建独立的编解码器实例，无需修改共享的默认配置
+     * <pre>
+     * JacksonCodec codec = JacksonUtils.builder()
+     *         .serializationInclusion(JsonInclude.Include.NON_EMPTY)
+     *         .indentOutput(true)
+     *         .build();
+     * </pre>
+     *
+     * @return 构建器，未设置的项使用默认配置
+     */
+    public static JacksonCodec.JacksonCodecBuilder builder() {
+        return JacksonCodec.builder();
+    }
+
+    /**
+     * 获取默认编解码器，即本工具类静态方法使用的编解码器
+     *
+     * @return 编解码器
+     */
+    public static JacksonCodec defaultCodec() {
+        return codec;
     }
 
     /**
@@ -175,22 +107,72 @@ public final class JacksonUtils {
      * NON_NULL：序列化非空的字段
      * NON_EMPTY：序列化非空字符串和非空的字段
      * NON_DEFAULT：序列化属性值发生过改变的字段
+     * <p>
+     * 会替换全局默认编解码器，仅用于应用启动时的初始化；运行时需要不同配置时请使用 {@link #builder()}
      */
-    public static void setSerializationInclusion(JsonInclude.Include inclusion) {
-        defaultPropertyInclusion = inclusion;
-        configPropertyInclusion();
+    public static synchronized void setSerializationInclusion(JsonInclude.Include inclusion) {
+        codec = codec.toBuilder().serializationInclusion(inclusion).build();
     }
 
     /**
      * 设置是否开启JSON格式美化
+     * 会替换全局默认编解码器，仅用于应用启动时的初始化；运行时需要不同配置时请使用 {@link #builder()}
      *
      * @param isEnable 为true表示开启, 默认false, 有些场合为了便于排版阅读则需要对输出做缩放排列
      */
-    public static void setIndentOutput(boolean isEnable) {
-        isEnableIndentOutput = isEnable;
-        configIndentOutput();
+    public static synchronized void setIndentOutput(boolean isEnable) {
+        codec = codec.toBuilder().indentOutput(isEnable).build();
+    }
+
+    /**
+     * 开启Resources目录下文件的内容缓存，已开启时替换为新的空缓存
+     * 对 fromResource、fromYamlResource、fromPropResource、fromXmlResource 生效，
+     * 以文件名为键缓存文件内容，命中时不再从ClassLoader查找和读取文件
+     * <p>
+     * 每次调用都从缓存的内容重新反序列化，返回新的对象，调用方可以修改
+     *
+     * @param maximumSize 最大缓存条数，超出后淘汰最近最少使用的
+     * @param ttl         写入后的存活时间，为null时不过期
+     */
+    public static synchronized void enableResourceCache(long maximumSize, Duration ttl) {
+        resourceCache = new ResourceCache(maximumSize, ttl);
+    }
+
+    /**
+     * 关闭Resources目录下文件的内容缓存，之后每次调用都重新读取文件
+     */
+    public static synchronized void disableResourceCache() {
+        resourceCache = null;
+    }
+
+    /**
+     * 清空Resources目录下文件的内容缓存，统计不清零；未开启缓存时什么也不做
+     */
+    public static void invalidateResourceCache() {
+        ResourceCache cache = resourceCache;
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Resources目录下文件的内容缓存的统计（hitCount、missCount、evictionCount等）
+     *
+     * @return 统计，未开启缓存时各项为0
+     */
+    public static CacheStats resourceCacheStats() {
+        ResourceCache cache = resourceCache;
+        return cache == null ? new CacheStats(0, 0, 0, 0, 0, 0) : cache.stats();
     }
 
+    /**
+     * 获取JSON格式的ObjectMapper，仅供同包的测试和基准测试对照使用
+     *
+     * @return ObjectMapper
+     */
+    static ObjectMapper jsonMapper() {
+        return codec.jsonMapper();
+    }
 
     /**
      * JSON反序列化
@@ -202,7 +184,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V from(URL url, Class<V> c) {
-        return mapper.readValue(url, c);
+        return codec.json().reader(c).readValue(url);
     }
 
     /**
@@ -215,7 +197,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V from(InputStream inputStream, Class<V> c) {
-        return mapper.readValue(inputStream, c);
+        return codec.json().reader(c).readValue(inputStream);
     }
 
     /**
@@ -228,7 +210,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V from(File file, Class<V> c) {
-        return mapper.readValue(file, c);
+        return codec.json().reader(c).readValue(file);
     }
 
     /**
@@ -241,7 +223,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V from(Object jsonObj, Class<V> c) {
-        return mapper.readValue(jsonObj.toString(), c);
+        return codec.json().reader(c).readValue(jsonObj.toString());
     }
 
     /**
@@ -254,7 +236,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V from(String json, Class<V> c) {
-        return mapper.readValue(json, c);
+        return codec.json().reader(c).readValue(json);
     }
 
     /**
@@ -267,7 +249,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V from(URL url, TypeReference<V> type) {
-        return mapper.readValue(url, type);
+        return codec.json().reader(type.getType()).readValue(url);
     }
 
     /**
@@ -280,7 +262,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V from(InputStream inputStream, TypeReference<V> type) {
-        return mapper.readValue(inputStream, type);
+        return codec.json().reader(type.getType()).readValue(inputStream);
     }
 
     /**
@@ -293,7 +275,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V from(File file, TypeReference<V> type) {
-        return mapper.readValue(file, type);
+        return codec.json().reader(type.getType()).readValue(file);
     }
 
     /**
@@ -306,7 +288,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V from(Object jsonObj, TypeReference<V> type) {
-        return mapper.readValue(jsonObj.toString(), type);
+        return codec.json().reader(type.getType()).readValue(jsonObj.toString());
     }
 
     /**
@@ -319,7 +301,160 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V from(String json, TypeReference<V> type) {
-        return mapper.readValue(json, type);
+        return codec.json().reader(type.getType()).readValue(json);
+    }
+
+    /**
+     * JSON流式反序列化
+     * 输入为JSON数组（或连续的多个JSON根值）时，按需逐个读取元素，内存占用与输入大小无关
+     * 迭代器用完后需要关闭，关闭时同时关闭底层解析器和输入流
+     *
+     * @param inputStream 输入流
+     * @param c           元素类型
+     * @param <V>         元素类型
+     * @return 元素迭代器
+     */
+    @SneakyThrows
+    public static <V> MappingIterator<V> iterator(InputStream inputStream, Class<V> c) {
+        return codec.json().reader(c).readValues(inputStream);
+    }
+
+    /**
+     * JSON流式反序列化
+     * 输入为JSON数组（或连续的多个JSON根值）时，按需逐个读取元素，内存占用与输入大小无关
+     * 返回的Stream需要关闭（推荐使用try-with-resources），关闭时同时关闭底层解析器和输入流
+     *
+     * @param inputStream 输入流
+     * @param c           元素类型
+     * @param <V>         元素类型
+     * @return 元素流
+     */
+    public static <V> Stream<V> stream(InputStream inputStream, Class<V> c) {
+        return toStream(iterator(inputStream, c));
+    }
+
+    /**
+     * JSON文件流式反序列化
+     *
+     * @param file 文件
+     * @param c    元素类型
+     * @param <V>  元素类型
+     * @return 元素流，需要关闭
+     * @see #stream(InputStream, Class)
+     */
+    @SneakyThrows
+    public static <V> Stream<V> stream(File file, Class<V> c) {
+        MappingIterator<V> iterator = codec.json().reader(c).readValues(file);
+        return toStream(iterator);
+    }
+
+    /**
+     * JSON文件流式反序列化
+     *
+     * @param path 文件路径
+     * @param c    元素类型
+     * @param <V>  元素类型
+     * @return 元素流，需要关闭
+     * @see #stream(InputStream, Class)
+     */
+    @SneakyThrows
+    public static <V> Stream<V> stream(Path path, Class<V> c) {
+        InputStream inputStream = Files.newInputStream(path);
+        try {
+            return stream(inputStream, c);
+        } catch (Throwable e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 反序列化NDJSON（JSON Lines，每行一个JSON值）
+     * 直接在字节流上逐个解析，不为每行创建String；输入为gzip压缩数据时自动解压
+     * 返回的Stream需要关闭（推荐使用try-with-resources），关闭时同时关闭输入流
+     *
+     * @param inputStream 输入流
+     * @param c           每行的类型
+     * @param <V>         每行的类型
+     * @return 按需读取的行对象流
+     */
+    @SneakyThrows
+    public static <V> Stream<V> fromJsonLines(InputStream inputStream, Class<V> c) {
+        ObjectReader reader = codec.json().reader(c);
+        JsonParser parser = reader.createParser(decompressIfGzip(inputStream));
+        try {
+            //解析器先定位到第一个值，顶层数组作为一行的值读取，而不是展开为多个值
+            parser.nextToken();
+            MappingIterator<V> iterator = reader.readValues(parser);
+            return toStream(iterator);
+        } catch (Throwable e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 反序列化NDJSON文件（JSON Lines，每行一个JSON值），gzip压缩的文件自动解压
+     *
+     * @param path 文件路径
+     * @param c    每行的类型
+     * @param <V>  每行的类型
+     * @return 按需读取的行对象流，需要关闭
+     * @see #fromJsonLines(InputStream, Class)
+     */
+    @SneakyThrows
+    public static <V> Stream<V> fromJsonLines(Path path, Class<V> c) {
+        InputStream inputStream = Files.newInputStream(path);
+        try {
+            return fromJsonLines(inputStream, c);
+        } catch (Throwable e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 以NDJSON格式（每行一个JSON值）追加到文件末尾，文件不存在时创建
+     *
+     * @param path   文件路径
+     * @param values 值
+     * @param <V>    值类型
+     */
+    public static <V> void appendJsonLines(Path path, Iterable<V> values) {
+        appendJsonLines(path, values, false);
+    }
+
+    /**
+     * 以NDJSON格式（每行一个JSON值）追加到文件末尾，文件不存在时创建
+     * 全部值复用同一个JsonGenerator写出；gzip压缩时每次追加写入一个新的gzip成员，多个成员拼接后仍是合法的gzip文件
+     *
+     * @param path   文件路径
+     * @param values 值
+     * @param gzip   是否gzip压缩
+     * @param <V>    值类型
+     */
+    @SneakyThrows
+    public static <V> void appendJsonLines(Path path, Iterable<V> values, boolean gzip) {
+        //NDJSON每个值必须在一行内，不受缩进配置影响；行尾换行符由下方显式写出；写完全部值后才刷新
+        ObjectWriter writer = codec.json().writer(null, JSON_LINES,
+                m -> m.writer().without(SerializationFeature.INDENT_OUTPUT)
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                        .withRootValueSeparator(""));
+        OutputStream fileStream = new BufferedOutputStream(
+                Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        JsonGenerator jsonGenerator;
+        try {
+            jsonGenerator = writer.createGenerator(gzip ? new GZIPOutputStream(fileStream) : fileStream);
+        } catch (Throwable e) {
+            fileStream.close();
+            throw e;
+        }
+        try (JsonGenerator generator = jsonGenerator) {
+            for (V value : values) {
+                writer.writeValue(generator, value);
+                generator.writeRaw('\n');
+            }
+        }
     }
 
     /**
@@ -330,15 +465,8 @@ public final class JacksonUtils {
      * @param <V>
      * @return
      */
-    @SneakyThrows
     public static <V> V fromResource(String name, Class<V> c) {
-        try (InputStream inputStream = getResourceStream(name);
-             InputStreamReader reader = getResourceReader(inputStream)) {
-            if (reader == null) {
-                return null;
-            }
-            return mapper.readValue(reader, c);
-        }
+        return readResource(name, c, DataFormat.JSON);
     }
 
     /**
@@ -349,15 +477,8 @@ public final class JacksonUtils {
      * @param <V>
      * @return
      */
-    @SneakyThrows
     public static <V> V fromResource(String name, TypeReference<V> type) {
-        try (InputStream inputStream = getResourceStream(name);
-             InputStreamReader reader = getResourceReader(inputStream)) {
-            if (reader == null) {
-                return null;
-            }
-            return mapper.readValue(reader, type);
-        }
+        return readResource(name, type.getType(), DataFormat.JSON);
     }
 
     /**
@@ -368,15 +489,8 @@ public final class JacksonUtils {
      * @param <V>
      * @return
      */
-    @SneakyThrows
     public static <V> V fromYamlResource(String name, Class<V> c) {
-        try (InputStream inputStream = getResourceStream(name);
-             InputStreamReader reader = getResourceReader(inputStream)) {
-            if (reader == null) {
-                return null;
-            }
-            return yamlMapper.readValue(reader, c);
-        }
+        return readResource(name, c, DataFormat.YAML);
     }
 
     /**
@@ -387,15 +501,8 @@ public final class JacksonUtils {
      * @param <V>
      * @return
      */
-    @SneakyThrows
     public static <V> V fromYamlResource(String name, TypeReference<V> type) {
-        try (InputStream inputStream = getResourceStream(name);
-             InputStreamReader reader = getResourceReader(inputStream)) {
-            if (reader == null) {
-                return null;
-            }
-            return yamlMapper.readValue(reader, type);
-        }
+        return readResource(name, type.getType(), DataFormat.YAML);
     }
 
     /**
@@ -408,7 +515,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V fromYamlFile(String path, Class<V> c) {
-        return yamlMapper.readValue(new File(path), c);
+        return codec.yaml().reader(c).readValue(new File(path));
     }
 
     /**
@@ -421,7 +528,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V fromYamlFile(String path, TypeReference<V> type) {
-        return yamlMapper.readValue(new File(path), type);
+        return codec.yaml().reader(type.getType()).readValue(new File(path));
     }
 
     /**
@@ -432,15 +539,8 @@ public final class JacksonUtils {
      * @param <V>
      * @return
      */
-    @SneakyThrows
     public static <V> V fromPropResource(String name, Class<V> c) {
-        try (InputStream inputStream = getResourceStream(name);
-             InputStreamReader reader = getResourceReader(inputStream)) {
-            if (reader == null) {
-                return null;
-            }
-            return propsMapper.readValue(reader, c);
-        }
+        return readResource(name, c, DataFormat.PROPERTIES);
     }
 
     /**
@@ -451,15 +551,8 @@ public final class JacksonUtils {
      * @param <V>
      * @return
      */
-    @SneakyThrows
     public static <V> V fromPropResource(String name, TypeReference<V> type) {
-        try (InputStream inputStream = getResourceStream(name);
-             InputStreamReader reader = getResourceReader(inputStream)) {
-            if (reader == null) {
-                return null;
-            }
-            return propsMapper.readValue(reader, type);
-        }
+        return readResource(name, type.getType(), DataFormat.PROPERTIES);
     }
 
     /**
@@ -490,8 +583,7 @@ public final class JacksonUtils {
             if (reader == null) {
                 return Collections.emptyList();
             }
-            CsvSchema schema = CsvSchema.builder().setColumnSeparator(separator.charAt(0)).setUseHeader(true).build();
-            return (List<V>) csvMapper.reader(schema).forType(c).readValues(reader).readAll();
+            return csvReader(separator, c).<V>readValues(reader).readAll();
         }
     }
 
@@ -515,11 +607,11 @@ public final class JacksonUtils {
      * @param c
      * @param <V>
      * @return
+     * @see #openCsvReader(Path, String, Class) 大文件使用流式读取
      */
     @SneakyThrows
     public static <V> List<V> fromCsvFile(String path, String separator, Class<V> c) {
-        CsvSchema schema = CsvSchema.builder().setColumnSeparator(separator.charAt(0)).setUseHeader(true).build();
-        return (List<V>) csvMapper.reader(schema).forType(c).readValues(new File(path)).readAll();
+        return csvReader(separator, c).<V>readValues(new File(path)).readAll();
     }
 
 
@@ -531,15 +623,8 @@ public final class JacksonUtils {
      * @param <V>
      * @return
      */
-    @SneakyThrows
     public static <V> V fromXmlResource(String name, Class<V> c) {
-        try (InputStream inputStream = getResourceStream(name);
-             InputStreamReader reader = getResourceReader(inputStream)) {
-            if (reader == null) {
-                return null;
-            }
-            return xmlMapper.readValue(reader, c);
-        }
+        return readResource(name, c, DataFormat.XML);
     }
 
     /**
@@ -550,15 +635,8 @@ public final class JacksonUtils {
      * @param <V>
      * @return
      */
-    @SneakyThrows
     public static <V> V fromXmlResource(String name, TypeReference<V> type) {
-        try (InputStream inputStream = getResourceStream(name);
-             InputStreamReader reader = getResourceReader(inputStream)) {
-            if (reader == null) {
-                return null;
-            }
-            return xmlMapper.readValue(reader, type);
-        }
+        return readResource(name, type.getType(), DataFormat.XML);
     }
 
     /**
@@ -571,7 +649,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V fromXmlFile(String path, Class<V> c) {
-        return xmlMapper.readValue(new File(path), c);
+        return codec.xml().reader(c).readValue(new File(path));
     }
 
     /**
@@ -584,7 +662,86 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V fromXmlFile(String path, TypeReference<V> type) {
-        return xmlMapper.readValue(new File(path), type);
+        return codec.xml().reader(type.getType()).readValue(new File(path));
+    }
+
+    /**
+     * 热加载Yaml文件：解析一次后缓存，文件变化时在后台重新解析
+     *
+     * @param path 文件路径
+     * @param c
+     * @param <V>
+     * @return 热加载的文件，用完后需要close
+     * @see WatchedFile
+     */
+    public static <V> WatchedFile<V> watchYamlFile(String path, Class<V> c) {
+        return WatchedFile.of(Paths.get(path), p -> fromYamlFile(p.toString(), c));
+    }
+
+    /**
+     * 热加载Yaml文件：解析一次后缓存，文件变化时在后台重新解析
+     *
+     * @param path 文件路径
+     * @param type
+     * @param <V>
+     * @return 热加载的文件，用完后需要close
+     * @see WatchedFile
+     */
+    public static <V> WatchedFile<V> watchYamlFile(String path, TypeReference<V> type) {
+        return WatchedFile.of(Paths.get(path), p -> fromYamlFile(p.toString(), type));
+    }
+
+    /**
+     * 热加载Xml文件：解析一次后缓存，文件变化时在后台重新解析
+     *
+     * @param path 文件路径
+     * @param c
+     * @param <V>
+     * @return 热加载的文件，用完后需要close
+     * @see WatchedFile
+     */
+    public static <V> WatchedFile<V> watchXmlFile(String path, Class<V> c) {
+        return WatchedFile.of(Paths.get(path), p -> fromXmlFile(p.toString(), c));
+    }
+
+    /**
+     * 热加载Xml文件：解析一次后缓存，文件变化时在后台重新解析
+     *
+     * @param path 文件路径
+     * @param type
+     * @param <V>
+     * @return 热加载的文件，用完后需要close
+     * @see WatchedFile
+     */
+    public static <V> WatchedFile<V> watchXmlFile(String path, TypeReference<V> type) {
+        return WatchedFile.of(Paths.get(path), p -> fromXmlFile(p.toString(), type));
+    }
+
+    /**
+     * 热加载Csv文件：解析一次后缓存，文件变化时在后台重新解析
+     *
+     * @param path 文件路径
+     * @param c
+     * @param <V>
+     * @return 热加载的文件，用完后需要close
+     * @see WatchedFile
+     */
+    public static <V> WatchedFile<List<V>> watchCsvFile(String path, Class<V> c) {
+        return watchCsvFile(path, CSV_DEFAULT_COLUMN_SEPARATOR, c);
+    }
+
+    /**
+     * 热加载Csv文件：解析一次后缓存，文件变化时在后台重新解析
+     *
+     * @param path      文件路径
+     * @param separator 分隔符
+     * @param c
+     * @param <V>
+     * @return 热加载的文件，用完后需要close
+     * @see WatchedFile
+     */
+    public static <V> WatchedFile<List<V>> watchCsvFile(String path, String separator, Class<V> c) {
+        return WatchedFile.of(Paths.get(path), p -> fromCsvFile(p.toString(), separator, c));
     }
 
     /**
@@ -597,7 +754,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V fromXml(String xml, Class<V> c) {
-        return xmlMapper.readValue(xml, c);
+        return codec.xml().reader(c).readValue(xml);
     }
 
     /**
@@ -610,7 +767,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> V fromXml(String xml, TypeReference<V> type) {
-        return xmlMapper.readValue(xml, type);
+        return codec.xml().reader(type.getType()).readValue(xml);
     }
 
     /**
@@ -622,7 +779,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> String to(List<V> list) {
-        return mapper.writeValueAsString(list);
+        return codec.json().writer(typeOf(list)).writeValueAsString(list);
     }
 
     /**
@@ -634,7 +791,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> String to(V v) {
-        return mapper.writeValueAsString(v);
+        return codec.json().writer(typeOf(v)).writeValueAsString(v);
     }
 
     /**
@@ -647,7 +804,7 @@ public final class JacksonUtils {
     @SneakyThrows
     public static <V> void toFile(String path, List<V> list) {
         try (Writer writer = new FileWriter(new File(path), true)) {
-            mapper.writer().writeValues(writer).writeAll(list);
+            codec.json().writer(null).writeValues(writer).writeAll(list);
             writer.flush();
         }
     }
@@ -662,7 +819,7 @@ public final class JacksonUtils {
     @SneakyThrows
     public static <V> void toFile(String path, V v) {
         try (Writer writer = new FileWriter(new File(path), true)) {
-            mapper.writer().writeValues(writer).write(v);
+            codec.json().writer(null).writeValues(writer).write(v);
             writer.flush();
         }
     }
@@ -676,7 +833,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> String toYaml(V v) {
-        return yamlMapper.writeValueAsString(v);
+        return codec.yaml().writer(typeOf(v)).writeValueAsString(v);
     }
 
     /**
@@ -689,7 +846,7 @@ public final class JacksonUtils {
     @SneakyThrows
     public static <V> void toYamlFile(String path, V v) {
         try (Writer writer = new FileWriter(new File(path), true)) {
-            yamlMapper.writeValue(writer, v);
+            codec.yaml().writer(typeOf(v)).writeValue(writer, v);
             writer.flush();
         }
     }
@@ -703,7 +860,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> String toProp(V v) {
-        String string = propsMapper.writeValueAsString(v);
+        String string = codec.props().writer(typeOf(v)).writeValueAsString(v);
         return new String(string.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
     }
 
@@ -717,8 +874,8 @@ public final class JacksonUtils {
     @SneakyThrows
     public static <V> void toPropFile(String path, V v) {
         try (Writer writer = new FileWriter(new File(path), true)) {
-            JavaPropsSchema schema = JavaPropsSchema.emptySchema();
-            propsMapper.writer(schema).writeValues(writer).write(v);
+            codec.props().writer(null, JavaPropsSchema.class, m -> m.writer(JavaPropsSchema.emptySchema()))
+                    .writeValues(writer).write(v);
             writer.flush();
         }
     }
@@ -745,8 +902,7 @@ public final class JacksonUtils {
     @SneakyThrows
     public static <V> String toCsv(String separator, List<V> list) {
         Class<?> type = list.get(0).getClass();
-        CsvSchema schema = csvMapper.schemaFor(type).withHeader().withColumnSeparator(separator.charAt(0));
-        return csvMapper.writer(schema).writeValueAsString(list);
+        return csvWriter(separator, type).writeValueAsString(list);
     }
 
     /**
@@ -770,8 +926,7 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static <V> String toCsv(String separator, V v) {
-        CsvSchema schema = csvMapper.schemaFor(v.getClass()).withHeader().withColumnSeparator(separator.charAt(0));
-        return csvMapper.writer(schema).writeValueAsString(v);
+        return csvWriter(separator, v.getClass()).writeValueAsString(v);
     }
 
     /**
@@ -792,13 +947,13 @@ public final class JacksonUtils {
      * @param separator
      * @param list
      * @param <V>
+     * @see #openCsvWriter(Path, String, Class, boolean) 大文件使用流式写入
      */
     @SneakyThrows
     public static <V> void toCsvFile(String path, String separator, List<V> list) {
         try (Writer writer = new FileWriter(new File(path), true)) {
             Class<?> type = list.get(0).getClass();
-            CsvSchema schema = csvMapper.schemaFor(type).withHeader().withColumnSeparator(separator.charAt(0));
-            csvMapper.writer(schema).writeValues(writer).writeAll(list);
+            csvWriter(separator, type).writeValues(writer).writeAll(list);
             writer.flush();
         }
     }
@@ -825,12 +980,135 @@ public final class JacksonUtils {
     @SneakyThrows
     public static <V> void toCsvFile(String path, String separator, V v) {
         try (Writer writer = new FileWriter(new File(path), true)) {
-            CsvSchema schema = csvMapper.schemaFor(v.getClass()).withHeader().withColumnSeparator(separator.charAt(0));
-            csvMapper.writer(schema).writeValues(writer).write(v);
+            csvWriter(separator, v.getClass()).writeValues(writer).write(v);
             writer.flush();
         }
     }
 
+    /**
+     * 并行反序列化Csv文件（带表头，逗号分隔），结果保持文件中的行顺序
+     * 文件被内存映射后按记录边界切块，各块在公共ForkJoinPool上并行绑定，适用于大文件的一次性导入
+     *
+     * @param path 文件路径
+     * @param c    行类型
+     * @param <V>  行类型
+     * @return 行列表
+     */
+    public static <V> List<V> fromCsvFileParallel(Path path, Class<V> c) {
+        return fromCsvFileParallel(path, CSV_DEFAULT_COLUMN_SEPARATOR, c, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 并行反序列化Csv文件（带表头），结果保持文件中的行顺序
+     *
+     * @param path      文件路径
+     * @param separator cloumn的分隔符
+     * @param c         行类型
+     * @param pool      执行绑定的线程池
+     * @param <V>       行类型
+     * @return 行列表
+     */
+    public static <V> List<V> fromCsvFileParallel(Path path, String separator, Class<V> c, ForkJoinPool pool) {
+        return CsvParallelLoader.load(codec, path, separator.charAt(0), c, pool);
+    }
+
+    /**
+     * 并行反序列化Csv文件（带表头，逗号分隔）为无序的并行流
+     * 各块按需逐行绑定，不会一次性持有全部行，适用于对行顺序没有要求的聚合、过滤、分批入库等场景
+     *
+     * @param path 文件路径
+     * @param c    行类型
+     * @param <V>  行类型
+     * @return 无序的并行流
+     */
+    public static <V> Stream<V> streamCsvFileParallel(Path path, Class<V> c) {
+        return streamCsvFileParallel(path, CSV_DEFAULT_COLUMN_SEPARATOR, c);
+    }
+
+    /**
+     * 并行反序列化Csv文件（带表头）为无序的并行流
+     *
+     * @param path      文件路径
+     * @param separator cloumn的分隔符
+     * @param c         行类型
+     * @param <V>       行类型
+     * @return 无序的并行流
+     */
+    public static <V> Stream<V> streamCsvFileParallel(Path path, String separator, Class<V> c) {
+        return CsvParallelLoader.stream(codec, path, separator.charAt(0), c);
+    }
+
+    /**
+     * 打开CSV流式读取器（带表头，逗号分隔），按需逐行或逐批读取，适用于大文件
+     *
+     * @param path 文件路径
+     * @param c    行类型
+     * @param <V>  行类型
+     * @return 读取器，需要关闭
+     */
+    public static <V> CsvStreamReader<V> openCsvReader(Path path, Class<V> c) {
+        return openCsvReader(path, CSV_DEFAULT_COLUMN_SEPARATOR, c);
+    }
+
+    /**
+     * 打开CSV流式读取器（带表头），按需逐行或逐批读取，适用于大文件
+     *
+     * @param path      文件路径
+     * @param separator cloumn的分隔符
+     * @param c         行类型
+     * @param <V>       行类型
+     * @return 读取器，需要关闭
+     */
+    @SneakyThrows
+    public static <V> CsvStreamReader<V> openCsvReader(Path path, String separator, Class<V> c) {
+        Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        try {
+            return new CsvStreamReader<>(csvReader(separator, c).readValues(reader));
+        } catch (Throwable e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 打开CSV流式写入器（带表头，逗号分隔），覆盖已有文件，逐行写入，适用于大文件
+     *
+     * @param path 文件路径
+     * @param c    行类型
+     * @param <V>  行类型
+     * @return 写入器，需要关闭
+     */
+    public static <V> CsvStreamWriter<V> openCsvWriter(Path path, Class<V> c) {
+        return openCsvWriter(path, CSV_DEFAULT_COLUMN_SEPARATOR, c, false);
+    }
+
+    /**
+     * 打开CSV流式写入器，逐行写入，适用于大文件
+     *
+     * @param path      文件路径
+     * @param separator cloumn的分隔符
+     * @param c         行类型
+     * @param append    为true时追加到文件末尾，文件已有内容时不再输出表头；为false时覆盖已有文件
+     * @param <V>       行类型
+     * @return 写入器，需要关闭
+     */
+    @SneakyThrows
+    public static <V> CsvStreamWriter<V> openCsvWriter(Path path, String separator, Class<V> c, boolean append) {
+        boolean header = !append || !Files.exists(path) || Files.size(path) == 0;
+        Writer writer = append
+                ? Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)
+                : Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        try {
+            //逐行写入时不刷新，由BufferedWriter缓冲，flush、close时写出
+            ObjectWriter csvWriter = codec.csvWriter(separator.charAt(0), c, header)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            return new CsvStreamWriter<>(csvWriter.writeValues(writer));
+        } catch (Throwable e) {
+            writer.close();
+            throw e;
+        }
+    }
+
     /**
      * 序列化为XML
      *
@@ -853,9 +1131,9 @@ public final class JacksonUtils {
     @SneakyThrows
     public static <V> String toXml(V v, boolean isIndent) {
         if (isIndent) {
-            return xmlMapper.writerWithDefaultPrettyPrinter().writeValueAsString(v);
+            return codec.xml().prettyWriter(typeOf(v)).writeValueAsString(v);
         } else {
-            return xmlMapper.writeValueAsString(v);
+            return codec.xml().writer(typeOf(v)).writeValueAsString(v);
         }
     }
 
@@ -882,19 +1160,252 @@ public final class JacksonUtils {
     public static <V> void toXmlFile(String path, V v, boolean isIndent) {
         try (Writer writer = new FileWriter(new File(path), true)) {
             if (isIndent) {
-                xmlMapper.writerWithDefaultPrettyPrinter().writeValue(writer, v);
+                codec.xml().prettyWriter(typeOf(v)).writeValue(writer, v);
             } else {
-                xmlMapper.writeValue(writer, v);
+                codec.xml().writer(typeOf(v)).writeValue(writer, v);
             }
             writer.flush();
         }
     }
 
+    /**
+     * 序列化为Smile（二进制JSON），适用于服务间调用，省去文本解析的开销
+     *
+     * @param v   值
+     * @param <V> 值类型
+     * @return Smile字节数组
+     */
+    public static <V> byte[] toSmile(V v) {
+        return codec.toSmile(v);
+    }
+
+    /**
+     * 反序列化Smile
+     *
+     * @param smile Smile字节数组
+     * @param c     目标类型
+     * @param <V>   目标类型
+     * @return 反序列化结果
+     */
+    public static <V> V fromSmile(byte[] smile, Class<V> c) {
+        return codec.fromSmile(smile, c);
+    }
+
+    /**
+     * 反序列化Smile
+     *
+     * @param smile Smile字节数组
+     * @param type  目标类型
+     * @param <V>   目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public static <V> V fromSmile(byte[] smile, TypeReference<V> type) {
+        return codec.smile().reader(type.getType()).readValue(smile);
+    }
+
+    /**
+     * 反序列化Smile
+     *
+     * @param inputStream 输入流
+     * @param c           目标类型
+     * @param <V>         目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public static <V> V fromSmile(InputStream inputStream, Class<V> c) {
+        return codec.smile().reader(c).readValue(inputStream);
+    }
+
+    /**
+     * 序列化为CBOR（二进制JSON），适用于服务间调用，省去文本解析的开销
+     *
+     * @param v   值
+     * @param <V> 值类型
+     * @return CBOR字节数组
+     */
+    public static <V> byte[] toCbor(V v) {
+        return codec.toCbor(v);
+    }
+
+    /**
+     * 反序列化CBOR
+     *
+     * @param cbor CBOR字节数组
+     * @param c    目标类型
+     * @param <V>  目标类型
+     * @return 反序列化结果
+     */
+    public static <V> V fromCbor(byte[] cbor, Class<V> c) {
+        return codec.fromCbor(cbor, c);
+    }
+
+    /**
+     * 反序列化CBOR
+     *
+     * @param cbor CBOR字节数组
+     * @param type 目标类型
+     * @param <V>  目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public static <V> V fromCbor(byte[] cbor, TypeReference<V> type) {
+        return codec.cbor().reader(type.getType()).readValue(cbor);
+    }
+
+    /**
+     * 反序列化CBOR
+     *
+     * @param inputStream 输入流
+     * @param c           目标类型
+     * @param <V>         目标类型
+     * @return 反序列化结果
+     */
+    @SneakyThrows
+    public static <V> V fromCbor(InputStream inputStream, Class<V> c) {
+        return codec.cbor().reader(c).readValue(inputStream);
+    }
+
+    /**
+     * 序列化为JSON字节数组（UTF-8）
+     *
+     * @param v   值
+     * @param <V> 值类型
+     * @return 字节数组
+     */
+    public static <V> byte[] toBytes(V v) {
+        return codec.toBytes(DataFormat.JSON, v);
+    }
+
+    /**
+     * 序列化为指定格式的字节数组
+     * 直接输出UTF-8字节，不经过中间的String；输出缓冲区按线程复用
+     *
+     * @param format 数据格式
+     * @param v      值，CSV格式时为行对象或行对象的集合
+     * @param <V>    值类型
+     * @return 字节数组
+     */
+    public static <V> byte[] toBytes(DataFormat format, V v) {
+        return codec.toBytes(format, v);
+    }
+
+    /**
+     * 序列化为JSON并写入输出流，写完后刷新但不关闭输出流
+     *
+     * @param outputStream 输出流，例如Servlet响应的输出流
+     * @param v            值
+     * @param <V>          值类型
+     */
+    public static <V> void writeTo(OutputStream outputStream, V v) {
+        codec.writeTo(DataFormat.JSON, outputStream, v);
+    }
+
+    /**
+     * 序列化为指定格式并写入输出流，写完后刷新但不关闭输出流
+     *
+     * @param format       数据格式
+     * @param outputStream 输出流，例如Servlet响应的输出流
+     * @param v            值，CSV格式时为行对象或行对象的集合
+     * @param <V>          值类型
+     */
+    public static <V> void writeTo(DataFormat format, OutputStream outputStream, V v) {
+        codec.writeTo(format, outputStream, v);
+    }
+
+    /**
+     * 序列化为JSON并写入ByteBuffer，从当前position开始写入
+     *
+     * @param buffer 缓冲区，剩余空间不足时抛出BufferOverflowException
+     * @param v      值
+     * @param <V>    值类型
+     */
+    public static <V> void writeTo(ByteBuffer buffer, V v) {
+        codec.writeTo(DataFormat.JSON, buffer, v);
+    }
+
+    /**
+     * 序列化为指定格式并写入ByteBuffer，从当前position开始写入
+     *
+     * @param format 数据格式
+     * @param buffer 缓冲区，剩余空间不足时抛出BufferOverflowException
+     * @param v      值，CSV格式时为行对象或行对象的集合
+     * @param <V>    值类型
+     */
+    public static <V> void writeTo(DataFormat format, ByteBuffer buffer, V v) {
+        codec.writeTo(format, buffer, v);
+    }
+
+    /**
+     * 从字节数组的指定区间反序列化JSON
+     *
+     * @param bytes  字节数组
+     * @param offset 起始位置
+     * @param len    长度
+     * @param c      目标类型
+     * @param <V>    目标类型
+     * @return 反序列化结果
+     */
+    public static <V> V from(byte[] bytes, int offset, int len, Class<V> c) {
+        return codec.from(DataFormat.JSON, bytes, offset, len, c);
+    }
+
+    /**
+     * 从字节数组的指定区间反序列化指定格式的数据
+     *
+     * @param format 数据格式
+     * @param bytes  字节数组
+     * @param offset 起始位置
+     * @param len    长度
+     * @param c      目标类型，CSV格式时为行类型的数组类型，例如 Order[].class
+     * @param <V>    目标类型
+     * @return 反序列化结果
+     */
+    public static <V> V from(DataFormat format, byte[] bytes, int offset, int len, Class<V> c) {
+        return codec.from(format, bytes, offset, len, c);
+    }
+
+    /**
+     * 从json串中获取某个字段
+     * 基于token流定位，跳过无关的子结构，找到目标字段后即停止解析，只为目标值构建JsonNode
+     *
+     * @param json json串
+     * @param path 字段名，或JSON Pointer（例如 /a/b/2/c）、点号路径（例如 a.b[2].c）
+     * @return 字段值，不存在时返回null
+     */
+    @SneakyThrows
+    public static JsonNode getNode(String json, String path) {
+        if (ObjectUtils.isEmpty(json)) {
+            return null;
+        }
+
+        return getNode(json, JsonPathScanner.compile(path));
+    }
+
+    /**
+     * 一次解析从json串中获取多个字段
+     * 所有字段都找到后即停止解析
+     *
+     * @param json  json串
+     * @param paths 字段名，或JSON Pointer（例如 /a/b/2/c）、点号路径（例如 a.b[2].c）
+     * @return 路径 -> 字段值，不存在的字段不包含在结果中
+     */
+    @SneakyThrows
+    public static Map<String, JsonNode> getNodes(String json, String... paths) {
+        if (ObjectUtils.isEmpty(json) || ObjectUtils.isEmpty(paths)) {
+            return Collections.emptyMap();
+        }
+
+        try (JsonParser parser = codec.jsonMapper().createParser(json)) {
+            return JsonPathScanner.scan(parser, Arrays.asList(paths));
+        }
+    }
+
     /**
      * 从json串中获取某个字段
      *
      * @param json
-     * @param key
+     * @param key  字段名，或JSON Pointer、点号路径（例如 a.b[2].c）
      * @return String
      */
     @SneakyThrows
@@ -903,9 +1414,9 @@ public final class JacksonUtils {
             return null;
         }
 
-        JsonNode node = mapper.readTree(json);
+        JsonNode node = getField(json, key);
         if (null != node) {
-            return node.get(key).toString();
+            return node.toString();
         } else {
             return null;
         }
@@ -915,7 +1426,7 @@ public final class JacksonUtils {
      * 从json串中获取某个字段
      *
      * @param json
-     * @param key
+     * @param key  字段名；没有同名的顶层字段时按JSON Pointer、点号路径（例如 a.b[2].c）查找
      * @return int
      */
     @SneakyThrows
@@ -924,9 +1435,9 @@ public final class JacksonUtils {
             return null;
         }
 
-        JsonNode node = mapper.readTree(json);
+        JsonNode node = getField(json, key);
         if (null != node) {
-            return node.get(key).intValue();
+            return node.intValue();
         } else {
             return null;
         }
@@ -936,7 +1447,7 @@ public final class JacksonUtils {
      * 从json串中获取某个字段
      *
      * @param json
-     * @param key
+     * @param key  字段名；没有同名的顶层字段时按JSON Pointer、点号路径（例如 a.b[2].c）查找
      * @return long
      */
     @SneakyThrows
@@ -945,9 +1456,9 @@ public final class JacksonUtils {
             return null;
         }
 
-        JsonNode node = mapper.readTree(json);
+        JsonNode node = getField(json, key);
         if (null != node) {
-            return node.get(key).longValue();
+            return node.longValue();
         } else {
             return null;
         }
@@ -957,7 +1468,7 @@ public final class JacksonUtils {
      * 从json串中获取某个字段
      *
      * @param json
-     * @param key
+     * @param key  字段名；没有同名的顶层字段时按JSON Pointer、点号路径（例如 a.b[2].c）查找
      * @return double
      */
     @SneakyThrows
@@ -966,9 +1477,9 @@ public final class JacksonUtils {
             return null;
         }
 
-        JsonNode node = mapper.readTree(json);
+        JsonNode node = getField(json, key);
         if (null != node) {
-            return node.get(key).doubleValue();
+            return node.doubleValue();
         } else {
             return null;
         }
@@ -978,7 +1489,7 @@ public final class JacksonUtils {
      * 从json串中获取某个字段
      *
      * @param json
-     * @param key
+     * @param key  字段名；没有同名的顶层字段时按JSON Pointer、点号路径（例如 a.b[2].c）查找
      * @return double
      */
     @SneakyThrows
@@ -987,9 +1498,9 @@ public final class JacksonUtils {
             return new BigInteger(String.valueOf(0.00));
         }
 
-        JsonNode node = mapper.readTree(json);
+        JsonNode node = getField(json, key);
         if (null != node) {
-            return node.get(key).bigIntegerValue();
+            return node.bigIntegerValue();
         } else {
             return null;
         }
@@ -999,7 +1510,7 @@ public final class JacksonUtils {
      * 从json串中获取某个字段
      *
      * @param json
-     * @param key
+     * @param key  字段名；没有同名的顶层字段时按JSON Pointer、点号路径（例如 a.b[2].c）查找
      * @return double
      */
     @SneakyThrows
@@ -1008,9 +1519,9 @@ public final class JacksonUtils {
             return null;
         }
 
-        JsonNode node = mapper.readTree(json);
+        JsonNode node = getField(json, key);
         if (null != node) {
-            return node.get(key).decimalValue();
+            return node.decimalValue();
         } else {
             return null;
         }
@@ -1020,7 +1531,7 @@ public final class JacksonUtils {
      * 从json串中获取某个字段
      *
      * @param json
-     * @param key
+     * @param key  字段名；没有同名的顶层字段时按JSON Pointer、点号路径（例如 a.b[2].c）查找
      * @return boolean, 默认为false
      */
     @SneakyThrows
@@ -1029,9 +1540,9 @@ public final class JacksonUtils {
             return false;
         }
 
-        JsonNode node = mapper.readTree(json);
+        JsonNode node = getField(json, key);
         if (null != node) {
-            return node.get(key).booleanValue();
+            return node.booleanValue();
         } else {
             return false;
         }
@@ -1041,7 +1552,7 @@ public final class JacksonUtils {
      * 从json串中获取某个字段
      *
      * @param json
-     * @param key
+     * @param key  字段名；没有同名的顶层字段时按JSON Pointer、点号路径（例如 a.b[2].c）查找
      * @return boolean, 默认为false
      */
     @SneakyThrows
@@ -1050,9 +1561,9 @@ public final class JacksonUtils {
             return new byte[0];
         }
 
-        JsonNode node = mapper.readTree(json);
+        JsonNode node = getField(json, key);
         if (null != node) {
-            return node.get(key).binaryValue();
+            return node.binaryValue();
         } else {
             return new byte[0];
         }
@@ -1062,99 +1573,128 @@ public final class JacksonUtils {
      * 从json串中获取某个字段
      *
      * @param json
-     * @param key
+     * @param key  字段名；没有同名的顶层字段时按JSON Pointer、点号路径（例如 a.b[2].c）查找
      * @param <T>
-     * @return boolean, 默认为false
+     * @return 列表, 默认为空列表
      */
+    @SneakyThrows
     public static <T> List<T> getList(String json, String key) {
         if (ObjectUtils.isEmpty(json)) {
             return Collections.emptyList();
         }
 
-        String string = getString(json, key);
-        return from(string, new TypeReference<ArrayList<T>>() {
-        });
+        JsonNode node = getField(json, key);
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        return codec.json().reader(new TypeReference<ArrayList<T>>() {
+        }.getType()).readValue(node);
     }
 
     /**
-     * 向json中添加属性
+     * 向json中添加属性，属性已存在时覆盖
+     * 基于token流一次复制完成，不构建整棵JsonNode树；非简单类型的值作为JSON结构写入，而不是JSON字符串
      *
      * @param json
-     * @param key
+     * @param key   顶层字段名，原样使用，不解析为路径
      * @param value
      * @param <T>
      * @return json
+     * @see #addPath(String, String, Object)
      */
-    @SneakyThrows
     public static <T> String add(String json, String key, T value) {
-        JsonNode node = mapper.readTree(json);
-        add(node, key, value);
-        return node.toString();
+        return new JsonPatch(codec.jsonMapper()).add(JsonPathScanner.field(key).toString(), value).apply(json);
     }
 
     /**
-     * 向json中添加属性
+     * 向json中按路径添加属性，属性已存在时覆盖，父对象不存在时自动创建
      *
-     * @param jsonNode
-     * @param key
-     * @param value
-     * @param <T>
+     * @param json  json串
+     * @param path  JSON Pointer 或 点号路径（例如 a.b[2].c）
+     * @param value 值
+     * @param <T>   值类型
+     * @return json
      */
-    private static <T> void add(JsonNode jsonNode, String key, T value) {
-        if (value instanceof String) {
-            ((ObjectNode) jsonNode).put(key, (String) value);
-        } else if (value instanceof Short) {
-            ((ObjectNode) jsonNode).put(key, (Short) value);
-        } else if (value instanceof Integer) {
-            ((ObjectNode) jsonNode).put(key, (Integer) value);
-        } else if (value instanceof Long) {
-            ((ObjectNode) jsonNode).put(key, (Long) value);
-        } else if (value instanceof Float) {
-            ((ObjectNode) jsonNode).put(key, (Float) value);
-        } else if (value instanceof Double) {
-            ((ObjectNode) jsonNode).put(key, (Double) value);
-        } else if (value instanceof BigDecimal) {
-            ((ObjectNode) jsonNode).put(key, (BigDecimal) value);
-        } else if (value instanceof BigInteger) {
-            ((ObjectNode) jsonNode).put(key, (BigInteger) value);
-        } else if (value instanceof Boolean) {
-            ((ObjectNode) jsonNode).put(key, (Boolean) value);
-        } else if (value instanceof byte[]) {
-            ((ObjectNode) jsonNode).put(key, (byte[]) value);
-        } else {
-            ((ObjectNode) jsonNode).put(key, to(value));
-        }
+    public static <T> String addPath(String json, String path, T value) {
+        return new JsonPatch(codec.jsonMapper()).add(path, value).apply(json);
     }
 
     /**
-     * 除去json中的某个属性
+     * 除去json中的某个属性，属性不存在时原样返回
      *
      * @param json
-     * @param key
+     * @param key  顶层字段名，原样使用，不解析为路径
      * @return json
+     * @see #removePath(String, String)
      */
-    @SneakyThrows
     public static String remove(String json, String key) {
-        JsonNode node = mapper.readTree(json);
-        ((ObjectNode) node).remove(key);
-        return node.toString();
+        return new JsonPatch(codec.jsonMapper()).remove(JsonPathScanner.field(key).toString()).apply(json);
+    }
+
+    /**
+     * 按路径除去json中的某个属性，属性不存在时原样返回
+     *
+     * @param json json串
+     * @param path JSON Pointer 或 点号路径（例如 a.b[2].c）
+     * @return json
+     */
+    public static String removePath(String json, String path) {
+        return new JsonPatch(codec.jsonMapper()).remove(path).apply(json);
     }
 
     /**
-     * 修改json中的属性
+     * 修改json中的属性，属性不存在时添加到末尾
+     * 与 {@link #add(String, String, Object)} 相同，属性已存在时在原位置替换值，其他字段的顺序不变；
+     * 注意：早期版本先删除再添加，被修改的属性会移到末尾
      *
      * @param json
-     * @param key
+     * @param key   顶层字段名，原样使用，不解析为路径
      * @param value
      * @param <T>
      * @return
+     * @see #addPath(String, String, Object)
      */
-    @SneakyThrows
     public static <T> String update(String json, String key, T value) {
-        JsonNode node = mapper.readTree(json);
-        ((ObjectNode) node).remove(key);
-        add(node, key, value);
-        return node.toString();
+        return add(json, key, value);
+    }
+
+    /**
+     * 批量编辑json，收集多个修改后一次扫描完成
+     *
+     * @param json json串
+     * @return 编辑器
+     * @see JsonEditor
+     */
+    public static JsonEditor edit(String json) {
+        return new JsonEditor(codec.jsonMapper(), json);
+    }
+
+    /**
+     * 应用RFC 6902 JSON Patch（支持add、remove、replace）
+     *
+     * @param json  json串
+     * @param patch JSON Patch文档，操作数组
+     * @return 修改后的json串
+     * @see JsonPatch
+     */
+    @SneakyThrows
+    public static String patch(String json, String patch) {
+        ObjectMapper mapper = codec.jsonMapper();
+        return JsonPatch.of(mapper, mapper.readTree(patch)).apply(json);
+    }
+
+    /**
+     * 应用RFC 7386 JSON Merge Patch
+     *
+     * @param json       json串
+     * @param mergePatch 合并补丁，值为null的字段被删除
+     * @return 修改后的json串
+     * @see JsonPatch
+     */
+    @SneakyThrows
+    public static String mergePatch(String json, String mergePatch) {
+        ObjectMapper mapper = codec.jsonMapper();
+        return new JsonPatch(mapper).merge(mapper.readTree(mergePatch)).apply(json);
     }
 
     /**
@@ -1165,22 +1705,213 @@ public final class JacksonUtils {
      */
     @SneakyThrows
     public static String format(String json) {
-        JsonNode node = mapper.readTree(json);
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(node);
+        //缩进后通常比原文长，预留两倍容量；超大输入时不能超过数组长度上限
+        StringWriter writer = new StringWriter((int) Math.min(json.length() * 2L, Integer.MAX_VALUE - 8));
+        format(new StringReader(json), writer);
+        return writer.toString();
+    }
+
+    /**
+     * 格式化Json(美化)，从解析器逐个复制token到带缩进的生成器，不构建JsonNode树，内存占用与文档大小无关
+     * 多个根值（例如NDJSON）依次格式化；完成后不关闭reader和writer
+     *
+     * @param reader 输入
+     * @param writer 输出
+     */
+    @SneakyThrows
+    public static void format(Reader reader, Writer writer) {
+        JsonFactory factory = codec.jsonMapper().getFactory();
+        copyJson(factory.createParser(reader), factory.createGenerator(writer), true);
+    }
+
+    /**
+     * 格式化Json文件(美化)，逐个token复制，适用于数百MB的大文件；编码自动检测，输出为UTF-8
+     *
+     * @param source 源文件
+     * @param target 目标文件，存在时覆盖，不能与源文件相同
+     */
+    @SneakyThrows
+    public static void format(Path source, Path target) {
+        copyJson(source, target, true);
+    }
+
+    /**
+     * 压缩Json，去掉全部空白
+     *
+     * @param json
+     * @return json
+     */
+    @SneakyThrows
+    public static String minify(String json) {
+        StringWriter writer = new StringWriter(json.length());
+        minify(new StringReader(json), writer);
+        return writer.toString();
+    }
+
+    /**
+     * 压缩Json，逐个token复制到不带缩进的生成器；完成后不关闭reader和writer
+     *
+     * @param reader 输入
+     * @param writer 输出
+     */
+    @SneakyThrows
+    public static void minify(Reader reader, Writer writer) {
+        JsonFactory factory = codec.jsonMapper().getFactory();
+        copyJson(factory.createParser(reader), factory.createGenerator(writer), false);
+    }
+
+    /**
+     * 压缩Json文件，逐个token复制，适用于数百MB的大文件；编码自动检测，输出为UTF-8
+     *
+     * @param source 源文件
+     * @param target 目标文件，存在时覆盖，不能与源文件相同
+     */
+    @SneakyThrows
+    public static void minify(Path source, Path target) {
+        copyJson(source, target, false);
     }
 
     /**
      * 判断字符串是否是json
+     * 逐个token校验，不构建JsonNode树；空串、多个根值均不是合法的json
      *
      * @param json
      * @return json
      */
     public static boolean isJson(String json) {
-        try {
-            mapper.readTree(json);
-            return true;
-        } catch (Exception e) {
-            return false;
+        return new JsonValidator(codec.jsonMapper().getFactory()).isValid(json);
+    }
+
+    /**
+     * 判断字符串是否是json，限制嵌套深度和长度，用于校验不可信的输入
+     *
+     * @param json      字符串
+     * @param maxDepth  最大嵌套深度，{@link JsonValidator#UNLIMITED} 为不限制
+     * @param maxLength 最大字符数，{@link JsonValidator#UNLIMITED} 为不限制
+     * @return 合法且未超出限制返回true
+     */
+    public static boolean isJson(String json, int maxDepth, long maxLength) {
+        return new JsonValidator(codec.jsonMapper().getFactory(), maxDepth, maxLength).isValid(json);
+    }
+
+    /**
+     * 判断输入流的内容是否是json，读到超出长度限制时立即停止，不关闭输入流
+     *
+     * @param inputStream 输入流
+     * @param maxDepth    最大嵌套深度，{@link JsonValidator#UNLIMITED} 为不限制
+     * @param maxLength   最大字节数，{@link JsonValidator#UNLIMITED} 为不限制
+     * @return 合法且未超出限制返回true
+     */
+    public static boolean isJson(InputStream inputStream, int maxDepth, long maxLength) {
+        return new JsonValidator(codec.jsonMapper().getFactory(), maxDepth, maxLength).isValid(inputStream);
+    }
+
+    /**
+     * 获取顶层字段，字段名不存在且可能是路径时，再按路径查找；只扫描一次
+     * 字段名可以包含“.”、“[”或以“/”开头，与路径同名时以字段为准
+     *
+     * @param json json串
+     * @param key  字段名或路径
+     * @return 字段值，不存在时返回null
+     */
+    @SneakyThrows
+    private static JsonNode getField(String json, String key) {
+        try (JsonParser parser = codec.jsonMapper().createParser(json)) {
+            return JsonPathScanner.readFieldOrPath(parser, key);
+        }
+    }
+
+    private static JsonNode getNode(String json, JsonPointer pointer) throws IOException {
+        try (JsonParser parser = codec.jsonMapper().createParser(json)) {
+            if (!JsonPathScanner.seek(parser, pointer)) {
+                return null;
+            }
+            return parser.readValueAsTree();
+        }
+    }
+
+    private static void copyJson(Path source, Path target, boolean pretty) throws IOException {
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            throw new IllegalArgumentException("Source and target are the same file: " + source);
+        }
+        JsonFactory factory = codec.jsonMapper().getFactory();
+        try (InputStream inputStream = Files.newInputStream(source);
+             OutputStream outputStream = Files.newOutputStream(target)) {
+            copyJson(factory.createParser(inputStream), factory.createGenerator(outputStream, JsonEncoding.UTF8), pretty);
+        }
+    }
+
+    private static void copyJson(JsonParser parser, JsonGenerator generator, boolean pretty) throws IOException {
+        //调用方负责关闭底层的输入输出
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (pretty) {
+            generator.useDefaultPrettyPrinter();
+        }
+        try (JsonParser p = parser; JsonGenerator g = generator) {
+            while (p.nextToken() != null) {
+                g.copyCurrentStructure(p);
+            }
+        }
+    }
+
+    private static ObjectReader csvReader(String separator, Class<?> c) {
+        return codec.csvReader(separator.charAt(0), c);
+    }
+
+    private static ObjectWriter csvWriter(String separator, Class<?> type) {
+        return codec.csvWriter(separator.charAt(0), type);
+    }
+
+    private static Class<?> typeOf(Object v) {
+        return JacksonCodec.typeOf(v);
+    }
+
+    private static InputStream decompressIfGzip(InputStream inputStream) throws IOException {
+        InputStream source = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+        source.mark(2);
+        int magic = source.read() | (source.read() << 8);
+        source.reset();
+        return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(source) : source;
+    }
+
+    private static <V> Stream<V> toStream(MappingIterator<V> iterator) {
+        Spliterator<V> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(() -> close(iterator));
+    }
+
+    @SneakyThrows
+    private static void close(Closeable closeable) {
+        closeable.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @SneakyThrows
+    private static <V> V readResource(String name, Type type, DataFormat format) {
+        ResourceCache cache = resourceCache;
+        if (cache == null) {
+            return (V) loadResource(name, type, format);
+        }
+        //缓存的是文件内容，每次绑定新的对象，调用方修改返回值不会影响缓存
+        String content = cache.get(name, () -> loadResourceContent(name));
+        return content == null ? null : (V) codec.codecs(format).reader(type).readValue(content);
+    }
+
+    @SneakyThrows
+    private static Object loadResource(String name, Type type, DataFormat format) {
+        try (InputStream inputStream = getResourceStream(name);
+             InputStreamReader reader = getResourceReader(inputStream)) {
+            if (reader == null) {
+                return null;
+            }
+            return codec.codecs(format).reader(type).readValue(reader);
+        }
+    }
+
+    private static String loadResourceContent(String name) throws IOException {
+        try (InputStream inputStream = getResourceStream(name);
+             InputStreamReader reader = getResourceReader(inputStream)) {
+            return reader == null ? null : CharStreams.toString(reader);
         }
     }
 
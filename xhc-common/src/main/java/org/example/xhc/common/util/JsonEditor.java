@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.xhc.common.helper.JsonPatch;
+import org.example.xhc.common.helper.JsonPathScanner;
+
+/**
+ * JSON批量编辑器
+ * 先收集全部修改，在apply时一次解析、一次生成完成，代替连续多次调用 {@link JacksonUtils#update} 时的重复解析和序列化
+ * <pre>
+ * String result = JacksonUtils.edit(json)
+ *         .set("status", 2)
+ *         .setPath("member.level", "VIP")
+ *         .remove("token")
+ *         .apply();
+ * </pre>
+ * set、replace、remove 的 key 是顶层字段名，原样使用（与 {@link JacksonUtils#update} 相同）；按路径修改使用 setPath、replacePath、removePath
+ * 非线程安全
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public final class JsonEditor {
+    private final String json;
+    private final JsonPatch patch;
+
+    /**
+     * 构造函数，通过 {@link JacksonUtils#edit(String)} 创建
+     *
+     * @param mapper ObjectMapper
+     * @param json   json串
+     */
+    JsonEditor(ObjectMapper mapper, String json) {
+        this.json = json;
+        this.patch = new JsonPatch(mapper);
+    }
+
+    /**
+     * 设置顶层属性，属性不存在时添加，存在时覆盖
+     *
+     * @param key   顶层字段名，原样使用，不解析为路径
+     * @param value 值，可以是任意可序列化的对象
+     * @return this
+     */
+    public JsonEditor set(String key, Object value) {
+        return setPath(JsonPathScanner.field(key).toString(), value);
+    }
+
+    /**
+     * 按路径设置属性，属性不存在时添加，存在时覆盖
+     *
+     * @param path  JSON Pointer 或 点号路径（例如 a.b[2].c），父对象不存在时自动创建
+     * @param value 值，可以是任意可序列化的对象
+     * @return this
+     */
+    public JsonEditor setPath(String path, Object value) {
+        patch.add(path, value);
+        return this;
+    }
+
+    /**
+     * 替换已存在的顶层属性，属性不存在时apply抛出IllegalArgumentException
+     *
+     * @param key   顶层字段名，原样使用，不解析为路径
+     * @param value 值，可以是任意可序列化的对象
+     * @return this
+     */
+    public JsonEditor replace(String key, Object value) {
+        return replacePath(JsonPathScanner.field(key).toString(), value);
+    }
+
+    /**
+     * 按路径替换已存在的属性，属性不存在时apply抛出IllegalArgumentException
+     *
+     * @param path  JSON Pointer 或 点号路径（例如 a.b[2].c）
+     * @param value 值，可以是任意可序列化的对象
+     * @return this
+     */
+    public JsonEditor replacePath(String path, Object value) {
+        patch.replace(path, value);
+        return this;
+    }
+
+    /**
+     * 删除顶层属性，属性不存在时忽略
+     *
+     * @param key 顶层字段名，原样使用，不解析为路径
+     * @return this
+     */
+    public JsonEditor remove(String key) {
+        return removePath(JsonPathScanner.field(key).toString());
+    }
+
+    /**
+     * 按路径删除属性，属性不存在时忽略
+     *
+     * @param path JSON Pointer 或 点号路径（例如 a.b[2].c）
+     * @return this
+     */
+    public JsonEditor removePath(String path) {
+        patch.remove(path);
+        return this;
+    }
+
+    /**
+     * 一次扫描应用全部修改
+     * 同一路径上的多个修改以最后一个为准；修改的路径位于之前set的值内部时，直接作用于该值
+     *
+     * @return 修改后的json串；没有任何修改时返回原json串
+     */
+    public String apply() {
+        return patch.isEmpty() ? json : patch.apply(json);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Value;
+
+import java.lang.reflect.Type;
+import java.util.function.Function;
+
+/**
+ * ObjectReader/ObjectWriter缓存
+ * ObjectReader和ObjectWriter是不可变且线程安全的，按目标类型预先构建后复用，可以省去每次调用时的根类型查找和配置解析
+ * 每个ObjectMapper（即每种数据格式）对应一个缓存实例；缓存容量有上限，超出后淘汰最近最少使用的，
+ * 以免CSV表头等取值不受控的缓存键占满容量后，常用类型再也无法缓存
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+final class ObjectCodecCache {
+    /**
+     * 默认缓存容量
+     */
+    static final int DEFAULT_MAX_SIZE = 512;
+
+    /**
+     * 美化输出writer的缓存键标识
+     */
+    private static final String PRETTY_PRINTER = "pretty";
+
+    private final ObjectMapper mapper;
+    private final Cache<Object, ObjectReader> readers;
+    private final Cache<Object, ObjectWriter> writers;
+
+    /**
+     * 构造函数
+     *
+     * @param mapper  构建ObjectReader/ObjectWriter的ObjectMapper
+     * @param maxSize reader、writer各自的缓存容量
+     */
+    ObjectCodecCache(ObjectMapper mapper, int maxSize) {
+        this.mapper = mapper;
+        this.readers = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+        this.writers = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    }
+
+    /**
+     * 获取目标类型的ObjectReader
+     *
+     * @param type 目标类型，Class或TypeReference.getType()
+     * @return ObjectReader
+     */
+    ObjectReader reader(Type type) {
+        ObjectReader reader = readers.getIfPresent(type);
+        if (reader == null) {
+            reader = cache(readers, type, mapper.readerFor(mapper.constructType(type)));
+        }
+        return reader;
+    }
+
+    /**
+     * 获取自定义构建的ObjectReader，例如带有CSV Schema的reader
+     *
+     * @param type    目标类型
+     * @param variant 构建参数，与目标类型一起组成缓存键
+     * @param factory 缓存未命中时的构建函数
+     * @return ObjectReader
+     */
+    ObjectReader reader(Type type, Object variant, Function<ObjectMapper, ObjectReader> factory) {
+        CodecKey key = new CodecKey(type, variant);
+        ObjectReader reader = readers.getIfPresent(key);
+        if (reader == null) {
+            reader = cache(readers, key, factory.apply(mapper));
+        }
+        return reader;
+    }
+
+    /**
+     * 获取值类型的ObjectWriter
+     *
+     * @param type 值类型，为null时返回不预取序列化器的通用writer
+     * @return ObjectWriter
+     */
+    ObjectWriter writer(Class<?> type) {
+        Object key = type == null ? Object.class : type;
+        ObjectWriter writer = writers.getIfPresent(key);
+        if (writer == null) {
+            writer = cache(writers, key, type == null ? mapper.writer() : mapper.writerFor(type));
+        }
+        return writer;
+    }
+
+    /**
+     * 获取值类型的美化输出ObjectWriter
+     *
+     * @param type 值类型，为null时返回不预取序列化器的通用writer
+     * @return ObjectWriter
+     */
+    ObjectWriter prettyWriter(Class<?> type) {
+        return writer(type, PRETTY_PRINTER, m -> (type == null ? m.writer() : m.writerFor(type)).withDefaultPrettyPrinter());
+    }
+
+    /**
+     * 获取自定义构建的ObjectWriter，例如美化输出或带有CSV Schema的writer
+     *
+     * @param type    值类型
+     * @param variant 构建参数，与值类型一起组成缓存键
+     * @param factory 缓存未命中时的构建函数
+     * @return ObjectWriter
+     */
+    ObjectWriter writer(Class<?> type, Object variant, Function<ObjectMapper, ObjectWriter> factory) {
+        CodecKey key = new CodecKey(type, variant);
+        ObjectWriter writer = writers.getIfPresent(key);
+        if (writer == null) {
+            writer = cache(writers, key, factory.apply(mapper));
+        }
+        return writer;
+    }
+
+    private static <T> T cache(Cache<Object, T> cache, Object key, T value) {
+        T previous = cache.asMap().putIfAbsent(key, value);
+        return previous == null ? value : previous;
+    }
+
+    /**
+     * 复合缓存键
+     */
+    @Value
+    private static class CodecKey {
+        Type type;
+        Object variant;
+    }
+}
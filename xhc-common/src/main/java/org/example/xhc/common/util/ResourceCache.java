@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.SneakyThrows;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Resources目录下文件的内容缓存
+ * 以文件名为键缓存文件的文本内容，命中时不再从ClassLoader查找和读取文件；文件不存在的结果（null）同样缓存
+ * 只缓存文本，不缓存反序列化后的对象：调用方每次得到新绑定的对象，可以自由修改，不会影响其他调用方
+ * 同一个键并发加载时只读取一次，其余线程等待结果
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+final class ResourceCache {
+    private final Cache<String, Optional<String>> cache;
+
+    /**
+     * 构造函数
+     *
+     * @param maximumSize 最大缓存条数，超出后淘汰最近最少使用的
+     * @param ttl         写入后的存活时间，为null时不过期
+     */
+    ResourceCache(long maximumSize, Duration ttl) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats();
+        if (ttl != null) {
+            builder.expireAfterWrite(ttl);
+        }
+        this.cache = builder.build();
+    }
+
+    /**
+     * 获取缓存的文件内容，未命中时调用loader读取并缓存
+     *
+     * @param name   文件名
+     * @param loader 读取文件
+     * @return 文件内容，文件不存在时为null
+     */
+    @SneakyThrows
+    String get(String name, Callable<String> loader) {
+        try {
+            return cache.get(name, () -> Optional.ofNullable(loader.call())).orElse(null);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 命中、未命中、加载耗时、淘汰次数等统计
+     *
+     * @return 统计
+     */
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 清空缓存
+     */
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
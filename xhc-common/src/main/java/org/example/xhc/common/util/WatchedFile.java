@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import lombok.SneakyThrows;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 热加载的文件
+ * 创建时解析一次，之后 {@link #get()} 直接返回缓存的值（volatile读，无锁）；
+ * 后台线程通过WatchService监听文件所在目录，文件被修改、替换后重新解析，成功后整体替换缓存的值
+ * <p>
+ * 1. 编辑器保存文件时往往连续产生多个事件，收到事件后等待 {@value #QUIET_MILLIS} 毫秒没有新事件再重新解析
+ * 2. 重新解析失败（例如文件写了一半、格式错误）时保留旧值，记录失败次数和异常，等待下一次修改
+ * 3. 每个实例占用一个WatchService和一个守护线程，用完后调用 {@link #close()} 释放
+ * 4. 部分平台（例如macOS）的WatchService基于轮询，修改后可能要数秒才能感知
+ * <p>
+ * 线程安全
+ *
+ * @param <V> 值类型
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+public final class WatchedFile<V> implements Supplier<V>, Closeable {
+    /**
+     * 合并连续事件的静默时间
+     */
+    static final long QUIET_MILLIS = 50L;
+
+    private final Path path;
+    private final Function<Path, V> loader;
+    private final WatchService watchService;
+
+    private volatile V value;
+    private volatile long reloadCount;
+    private volatile long failureCount;
+    private volatile Exception lastFailure;
+    private volatile long lastReloadNanos;
+    private volatile long maxReloadNanos;
+
+    /**
+     * 构造函数，解析文件并开始监听
+     *
+     * @param path   文件路径
+     * @param loader 解析文件
+     */
+    @SneakyThrows
+    private WatchedFile(Path path, Function<Path, V> loader) {
+        this.path = path.toAbsolutePath().normalize();
+        this.loader = loader;
+        this.value = loader.apply(this.path);
+
+        Path directory = this.path.getParent();
+        this.watchService = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (Throwable e) {
+            watchService.close();
+            throw e;
+        }
+
+        Thread watcher = new Thread(this::watch, "watched-file-" + this.path.getFileName());
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * 监听文件，文件变化后使用loader重新解析
+     *
+     * @param path   文件路径
+     * @param loader 解析文件，例如 p -&gt; JacksonUtils.fromYamlFile(p.toString(), Config.class)
+     * @param <V>    值类型
+     * @return 热加载的文件
+     */
+    public static <V> WatchedFile<V> of(Path path, Function<Path, V> loader) {
+        return new WatchedFile<>(Objects.requireNonNull(path, "path"), Objects.requireNonNull(loader, "loader"));
+    }
+
+    /**
+     * 获取最近一次成功解析的值
+     *
+     * @return 值
+     */
+    @Override
+    public V get() {
+        return value;
+    }
+
+    /**
+     * 立即重新解析，失败时保留旧值
+     *
+     * @return 成功返回true
+     */
+    public boolean reload() {
+        return reload(System.nanoTime());
+    }
+
+    /**
+     * @return 文件路径
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return 成功重新解析的次数（不含创建时的解析）
+     */
+    public long getReloadCount() {
+        return reloadCount;
+    }
+
+    /**
+     * @return 重新解析失败的次数
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return 最近一次重新解析失败的异常，没有失败时为null
+     */
+    public Exception getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * 最近一次重新加载的延迟：从感知到文件变化（或手动调用reload）到新值可见，包含合并事件的静默时间
+     *
+     * @return 延迟，尚未重新加载时为0
+     */
+    public Duration getLastReloadLatency() {
+        return Duration.ofNanos(lastReloadNanos);
+    }
+
+    /**
+     * @return 重新加载的最大延迟，尚未重新加载时为0
+     */
+    public Duration getMaxReloadLatency() {
+        return Duration.ofNanos(maxReloadNanos);
+    }
+
+    /**
+     * 停止监听，之后get返回最后一次解析的值
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private synchronized boolean reload(long startNanos) {
+        V reloaded;
+        try {
+            reloaded = loader.apply(path);
+        } catch (Exception e) {
+            lastFailure = e;
+            failureCount++;
+            return false;
+        }
+        value = reloaded;
+        long latency = System.nanoTime() - startNanos;
+        lastReloadNanos = latency;
+        maxReloadNanos = Math.max(maxReloadNanos, latency);
+        reloadCount++;
+        return true;
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                long detected = System.nanoTime();
+                boolean changed = isChanged(key);
+                while ((key = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= isChanged(key);
+                }
+                if (changed) {
+                    reload(detected);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            //close后退出
+        }
+    }
+
+    private boolean isChanged(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            //OVERFLOW表示事件丢失，无法确定是否是本文件，按变化处理
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || path.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+}
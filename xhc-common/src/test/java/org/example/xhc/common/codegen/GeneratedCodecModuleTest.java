@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.codegen;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 测试编译期生成的编解码器：输出、读取结果与默认的Bean序列化一致
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+class GeneratedCodecModuleTest {
+    private static final ObjectMapper BEAN = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final ObjectMapper GENERATED = BEAN.copy().registerModule(new GeneratedCodecModule());
+
+    @Test
+    void codecIsGeneratedAndRegistered() throws IOException {
+        assertThat(GeneratedCodecModule.isEmpty()).isFalse();
+        assertThat(GENERATED.getSerializerProviderInstance().findValueSerializer(Sample.class))
+                .isInstanceOf(GeneratedSerializer.class);
+        assertThat(new GeneratedCodecModuleTest_SampleCodec().type()).isEqualTo(Sample.class);
+    }
+
+    @Test
+    void sameAsBeanSerializer() throws IOException {
+        Sample sample = Sample.sample();
+
+        for (JsonInclude.Include inclusion : Arrays.asList(JsonInclude.Include.ALWAYS, JsonInclude.Include.NON_NULL,
+                JsonInclude.Include.NON_EMPTY)) {
+            sample.setNote(null);
+            sample.setTags(Collections.emptyList());
+            assertThat(GENERATED.copy().setSerializationInclusion(inclusion).writeValueAsString(sample))
+                    .as(inclusion.name())
+                    .isEqualTo(BEAN.copy().setSerializationInclusion(inclusion).writeValueAsString(sample));
+        }
+    }
+
+    @Test
+    void fallbackToBeanSerializer() throws IOException {
+        Sample sample = Sample.sample();
+        sample.setCount(0);
+        sample.setActive(false);
+        sample.setNote("");
+        sample.setTags(Collections.emptyList());
+        sample.setSecret(null);
+
+        for (JsonInclude.Include inclusion : Arrays.asList(JsonInclude.Include.NON_DEFAULT,
+                JsonInclude.Include.NON_ABSENT)) {
+            ObjectMapper generated = GENERATED.copy().setSerializationInclusion(inclusion);
+            assertThat(generated.getSerializerProviderInstance().findValueSerializer(Sample.class))
+                    .as(inclusion.name())
+                    .isNotInstanceOf(GeneratedSerializer.class);
+
+            String json = generated.writeValueAsString(sample);
+            assertThat(json).as(inclusion.name())
+                    .isEqualTo(BEAN.copy().setSerializationInclusion(inclusion).writeValueAsString(sample));
+            assertThat(generated.readValue(json, Sample.class)).as(inclusion.name())
+                    .isEqualTo(BEAN.readValue(json, Sample.class));
+        }
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        Sample sample = Sample.sample();
+        String json = BEAN.writeValueAsString(sample);
+        sample.setSecret(null);
+
+        assertThat(GENERATED.readValue(json, Sample.class)).isEqualTo(sample);
+        assertThat(GENERATED.readValue(GENERATED.writeValueAsString(sample), Sample.class)).isEqualTo(sample);
+        assertThat(GENERATED.readValue("[" + json + "]", new TypeReference<List<Sample>>() {
+        })).containsExactly(sample);
+    }
+
+    @Test
+    void coercionAndUnknownProperties() throws IOException {
+        String json = "{\"id\":\"7\",\"count\":null,\"rate\":2,\"amount\":\"1.50\",\"active\":\"true\",\"unknown\":{\"a\":[1]},"
+                + "\"child\":{\"id\":8},\"remark\":\"x\"}";
+
+        Sample generated = GENERATED.readValue(json, Sample.class);
+        assertThat(generated).isEqualTo(BEAN.readValue(json, Sample.class));
+        assertThat(generated.getId()).isEqualTo(7L);
+        assertThat(generated.getChild().getId()).isEqualTo(8L);
+
+        ObjectMapper strict = GENERATED.copy().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        assertThatThrownBy(() -> strict.readValue(json, Sample.class)).isInstanceOf(UnrecognizedPropertyException.class);
+    }
+
+    @Data
+    public static class Base {
+        private Long id;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    @JsonCodegen
+    public static class Sample extends Base {
+        private int count;
+        private double rate;
+        private boolean active;
+        private boolean isDeleted;
+        private char grade;
+        private Short level;
+        private BigDecimal amount;
+        private String note;
+        @JsonProperty("remark_text")
+        private String remark;
+        @JsonIgnore
+        private String secret;
+        private LocalDateTime createTime;
+        private List<String> tags;
+        private Map<String, List<Integer>> scores;
+        private long[] versions;
+        private Sample child;
+
+        static Sample sample() {
+            Sample sample = new Sample();
+            sample.setId(1L);
+            sample.setCount(3);
+            sample.setRate(0.5);
+            sample.setActive(true);
+            sample.setDeleted(true);
+            sample.setGrade('A');
+            sample.setLevel((short) 2);
+            sample.setAmount(new BigDecimal("12.30"));
+            sample.setNote("备注\"\\");
+            sample.setRemark("remark");
+            sample.setSecret("secret");
+            sample.setCreateTime(LocalDateTime.of(2022, 10, 1, 12, 0));
+            sample.setTags(Arrays.asList("a", "b"));
+            sample.setScores(Collections.singletonMap("math", Arrays.asList(90, 95)));
+            sample.setVersions(new long[]{1L, 2L});
+            Sample child = new Sample();
+            child.setId(2L);
+            sample.setChild(child);
+            return sample;
+        }
+    }
+}
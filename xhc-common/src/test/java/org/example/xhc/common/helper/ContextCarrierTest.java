@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 测试上下文载体
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+class ContextCarrierTest {
+
+    @Test
+    void threadLocal() throws Exception {
+        verify(ContextCarrier.threadLocal());
+    }
+
+    @Test
+    void create() throws Exception {
+        //当前JDK不支持ScopedValue时退化为ThreadLocal，行为相同
+        verify(ContextCarrier.create());
+    }
+
+    private static void verify(ContextCarrier<String> carrier) throws Exception {
+        assertThat(carrier.get()).isNull();
+        carrier.set("outer");
+        assertThat(carrier.get()).isEqualTo("outer");
+        assertThat(carrier.isScoped()).isFalse();
+
+        //作用域内从空开始，设置的值在结束后丢弃
+        AtomicReference<String> seen = new AtomicReference<>();
+        String result = carrier.call(() -> {
+            seen.set(carrier.get());
+            carrier.set("inner");
+            return carrier.get();
+        });
+        assertThat(seen.get()).isNull();
+        assertThat(result).isEqualTo("inner");
+        assertThat(carrier.get()).isEqualTo("outer");
+
+        assertThatThrownBy(() -> carrier.run(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(carrier.get()).isEqualTo("outer");
+
+        //其他线程互不影响
+        assertThat(CompletableFuture.supplyAsync(carrier::get).get()).isNull();
+
+        carrier.remove();
+        assertThat(carrier.get()).isNull();
+    }
+}
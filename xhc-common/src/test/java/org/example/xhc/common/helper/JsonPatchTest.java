@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 测试基于token流的JSON补丁
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+class JsonPatchTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String JSON = "{\"id\":1,\"name\":\"jack\",\"tags\":[\"a\",\"b\"],\"class\":{\"no\":\"201903\"}}";
+
+    @Test
+    void addWritesStructuredValues() {
+        String result = new JsonPatch(MAPPER)
+                .add("scores", Arrays.asList(90, 95))
+                .add("address", Collections.singletonMap("city", "beijing"))
+                .add("name", "tom")
+                .apply(JSON);
+
+        assertThat(result).isEqualTo("{\"id\":1,\"name\":\"tom\",\"tags\":[\"a\",\"b\"],\"class\":{\"no\":\"201903\"},"
+                + "\"scores\":[90,95],\"address\":{\"city\":\"beijing\"}}");
+    }
+
+    @Test
+    void nestedPaths() {
+        String result = new JsonPatch(MAPPER)
+                .add("class.size", 30)
+                .add("/ext/level", "A")
+                .remove("id")
+                .remove("missing.field")
+                .replace("class.no", "201904")
+                .apply(JSON);
+
+        assertThat(result).isEqualTo("{\"name\":\"jack\",\"tags\":[\"a\",\"b\"],\"class\":{\"no\":\"201904\",\"size\":30},"
+                + "\"ext\":{\"level\":\"A\"}}");
+    }
+
+    @Test
+    void arrays() {
+        assertThat(new JsonPatch(MAPPER).add("/tags/1", "x").apply(JSON)).contains("\"tags\":[\"a\",\"x\",\"b\"]");
+        assertThat(new JsonPatch(MAPPER).add("/tags/-", "x").apply(JSON)).contains("\"tags\":[\"a\",\"b\",\"x\"]");
+        assertThat(new JsonPatch(MAPPER).add("/tags/2", "x").apply(JSON)).contains("\"tags\":[\"a\",\"b\",\"x\"]");
+        assertThat(new JsonPatch(MAPPER).remove("tags[0]").apply(JSON)).contains("\"tags\":[\"b\"]");
+        assertThat(new JsonPatch(MAPPER).replace("tags[1]", "y").apply(JSON)).contains("\"tags\":[\"a\",\"y\"]");
+    }
+
+    @Test
+    void laterOperationsApplyInsideEarlierValues() {
+        String result = new JsonPatch(MAPPER)
+                .add("address", Collections.singletonMap("city", "beijing"))
+                .add("address.zip", "100000")
+                .remove("class")
+                .add("class.size", 30)
+                .apply(JSON);
+
+        assertThat(result).isEqualTo("{\"id\":1,\"name\":\"jack\",\"tags\":[\"a\",\"b\"],\"class\":{\"size\":30},"
+                + "\"address\":{\"city\":\"beijing\",\"zip\":\"100000\"}}");
+    }
+
+    @Test
+    void missingTarget() {
+        assertThatThrownBy(() -> new JsonPatch(MAPPER).replace("missing", 1).apply(JSON))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("missing");
+        assertThatThrownBy(() -> new JsonPatch(MAPPER).add("/tags/5", "x").apply(JSON))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JsonPatch(MAPPER).add("name.first", "x").apply(JSON))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rfc6902() throws IOException {
+        String patch = "[{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"tom\"},"
+                + "{\"op\":\"add\",\"path\":\"/tags/0\",\"value\":\"z\"},"
+                + "{\"op\":\"remove\",\"path\":\"/class\"}]";
+
+        assertThat(JsonPatch.of(MAPPER, MAPPER.readTree(patch)).apply(JSON))
+                .isEqualTo("{\"id\":1,\"name\":\"tom\",\"tags\":[\"z\",\"a\",\"b\"]}");
+        assertThatThrownBy(() -> JsonPatch.of(MAPPER, MAPPER.readTree("[{\"op\":\"move\",\"path\":\"/a\",\"from\":\"/b\"}]")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("move");
+    }
+
+    @Test
+    void rfc7386() throws IOException {
+        // RFC 7386 第3节的示例
+        String target = "{\"title\":\"Goodbye!\",\"author\":{\"givenName\":\"John\",\"familyName\":\"Doe\"},"
+                + "\"tags\":[\"example\",\"sample\"],\"content\":\"This will be unchanged\"}";
+        String patch = "{\"title\":\"Hello!\",\"phoneNumber\":\"+01-123-456-7890\",\"author\":{\"familyName\":null},"
+                + "\"tags\":[\"example\"]}";
+
+        assertThat(MAPPER.readTree(new JsonPatch(MAPPER).merge(MAPPER.readTree(patch)).apply(target)))
+                .isEqualTo(MAPPER.readTree("{\"title\":\"Hello!\",\"author\":{\"givenName\":\"John\"},"
+                        + "\"tags\":[\"example\"],\"content\":\"This will be unchanged\",\"phoneNumber\":\"+01-123-456-7890\"}"));
+
+        // RFC 7386 附录A的部分示例
+        assertMerge("{\"a\":\"b\"}", "{\"a\":\"c\"}", "{\"a\":\"c\"}");
+        assertMerge("{\"a\":[\"b\"]}", "{\"a\":\"c\"}", "{\"a\":\"c\"}");
+        assertMerge("{\"a\":\"foo\"}", "null", "null");
+        assertMerge("{\"e\":null}", "{\"a\":1}", "{\"e\":null,\"a\":1}");
+        assertMerge("[1,2]", "{\"a\":\"b\",\"c\":null}", "{\"a\":\"b\"}");
+        assertMerge("{}", "{\"a\":{\"bb\":{\"ccc\":null}}}", "{\"a\":{\"bb\":{}}}");
+        assertMerge("{\"a\":{\"b\":\"c\"}}", "{\"a\":{\"b\":\"d\",\"c\":null}}", "{\"a\":{\"b\":\"d\"}}");
+    }
+
+    private static void assertMerge(String target, String patch, String expected) throws IOException {
+        assertThat(new JsonPatch(MAPPER).merge(MAPPER.readTree(patch)).apply(target)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.helper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 测试JSON路径定位器
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+class JsonPathScannerTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String JSON = "{\"id\":1,\"skip\":{\"x\":[1,2,{\"y\":3}]},"
+            + "\"a\":{\"b\":[{\"c\":\"c0\"},{\"c\":\"c1\"},{\"c\":\"c2\"}]},\"tail\":true}";
+
+    @Test
+    void compile() {
+        assertThat(JsonPathScanner.compile("a.b[2].c")).hasToString("/a/b/2/c");
+        assertThat(JsonPathScanner.compile("/a/b/2/c")).hasToString("/a/b/2/c");
+        assertThat(JsonPathScanner.compile("key")).hasToString("/key");
+        assertThat(JsonPathScanner.compile("a/b")).hasToString("/a~1b");
+    }
+
+    @Test
+    void seek() throws IOException {
+        try (JsonParser parser = MAPPER.createParser(JSON)) {
+            assertThat(JsonPathScanner.seek(parser, JsonPathScanner.compile("a.b[2].c"))).isTrue();
+            assertThat(parser.getText()).isEqualTo("c2");
+            // 找到后即停止，后面的字段尚未读取
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.END_OBJECT);
+        }
+    }
+
+    @Test
+    void seekMissing() throws IOException {
+        try (JsonParser parser = MAPPER.createParser(JSON)) {
+            assertThat(JsonPathScanner.seek(parser, JsonPathScanner.compile("a.b[5].c"))).isFalse();
+        }
+        try (JsonParser parser = MAPPER.createParser(JSON)) {
+            assertThat(JsonPathScanner.seek(parser, JsonPathScanner.compile("id.x"))).isFalse();
+        }
+    }
+
+    @Test
+    void scan() throws IOException {
+        try (JsonParser parser = MAPPER.createParser(JSON)) {
+            Map<String, JsonNode> values = JsonPathScanner.scan(parser,
+                    Arrays.asList("id", "/a/b/0/c", "a.b", "a.b[1].c", "missing"));
+
+            assertThat(values).hasSize(4).doesNotContainKey("missing");
+            assertThat(values.get("id").intValue()).isEqualTo(1);
+            assertThat(values.get("/a/b/0/c").textValue()).isEqualTo("c0");
+            assertThat(values.get("a.b").size()).isEqualTo(3);
+            assertThat(values.get("a.b[1].c").textValue()).isEqualTo("c1");
+        }
+    }
+}
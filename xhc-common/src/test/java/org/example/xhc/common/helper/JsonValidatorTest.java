@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.helper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 测试基于token流的JSON校验器
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+class JsonValidatorTest {
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final String JSON = "{\"id\":1,\"tags\":[\"a\",{\"b\":[1,2]}],\"name\":\"jack\\u0041\"}";
+
+    @Test
+    void syntax() {
+        JsonValidator validator = new JsonValidator(FACTORY);
+
+        assertThat(validator.isValid(JSON)).isTrue();
+        assertThat(validator.isValid(" [1, 2.5, true, null] ")).isTrue();
+        assertThat(validator.isValid("\"text\"")).isTrue();
+        assertThat(validator.isValid("12")).isTrue();
+
+        assertThat(validator.isValid((String) null)).isFalse();
+        assertThat(validator.isValid("")).isFalse();
+        assertThat(validator.isValid("   ")).isFalse();
+        assertThat(validator.isValid("{\"id\":1")).isFalse();
+        assertThat(validator.isValid("{\"id\":1]")).isFalse();
+        assertThat(validator.isValid("{\"id\":1} {}")).isFalse();
+        assertThat(validator.isValid("{\"name\":\"bad\\q\"}")).isFalse();
+        assertThat(validator.isValid("[1,]")).isFalse();
+        assertThat(validator.isValid("abc")).isFalse();
+    }
+
+    @Test
+    void limits() {
+        assertThat(new JsonValidator(FACTORY, 4, JsonValidator.UNLIMITED).isValid(JSON)).isTrue();
+        assertThat(new JsonValidator(FACTORY, 3, JsonValidator.UNLIMITED).isValid(JSON)).isFalse();
+        assertThat(new JsonValidator(FACTORY, 1, JsonValidator.UNLIMITED).isValid("1")).isTrue();
+        assertThat(new JsonValidator(FACTORY, 2, JsonValidator.UNLIMITED).isValid("[[1] [2]]")).isFalse();
+
+        assertThat(new JsonValidator(FACTORY, JsonValidator.UNLIMITED, JSON.length()).isValid(JSON)).isTrue();
+        assertThat(new JsonValidator(FACTORY, JsonValidator.UNLIMITED, JSON.length() - 1).isValid(JSON)).isFalse();
+    }
+
+    @Test
+    void inputStream() {
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(new JsonValidator(FACTORY).isValid(new ByteArrayInputStream(bytes))).isTrue();
+        assertThat(new JsonValidator(FACTORY).isValid(bytes)).isTrue();
+        assertThat(new JsonValidator(FACTORY, 4, bytes.length).isValid(new ByteArrayInputStream(bytes))).isTrue();
+        assertThat(new JsonValidator(FACTORY, 4, bytes.length - 1).isValid(new ByteArrayInputStream(bytes))).isFalse();
+        assertThat(new JsonValidator(FACTORY, 3, 10).isValid(bytes)).isFalse();
+    }
+}
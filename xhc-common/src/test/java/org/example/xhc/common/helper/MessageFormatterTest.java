@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.helper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 测试消息格式化
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+class MessageFormatterTest {
+
+    @Test
+    void format() {
+        assertThat(MessageFormatter.format("Hi {}.", "there").getMessage()).isEqualTo("Hi there.");
+        assertThat(MessageFormatter.format("Hi {}. My name is {}.", "Alice", "Bob").getMessage())
+                .isEqualTo("Hi Alice. My name is Bob.");
+        assertThat(MessageFormatter.format("Set {1,2,3} is not equal to {}.", "1,2").getMessage())
+                .isEqualTo("Set {1,2,3} is not equal to 1,2.");
+        assertThat(MessageFormatter.format("Set \\{} is not equal to {}.", "1,2").getMessage())
+                .isEqualTo("Set {} is not equal to 1,2.");
+        assertThat(MessageFormatter.format("File name is C:\\\\{}.", "file.zip").getMessage())
+                .isEqualTo("File name is C:\\file.zip.");
+        assertThat(MessageFormatter.format("no anchor", "x").getMessage()).isEqualTo("no anchor");
+        assertThat(MessageFormatter.format("{} and {}", "x").getMessage()).isEqualTo("x and {}");
+        assertThat(MessageFormatter.format("{}", null).getMessage()).isEqualTo("null");
+    }
+
+    @Test
+    void throwableCandidate() {
+        IllegalStateException e = new IllegalStateException("boom");
+        FormattingTuple tuple = MessageFormatter.arrayFormat("{} failed", new Object[]{"job", e});
+
+        assertThat(tuple.getMessage()).isEqualTo("job failed");
+        assertThat(tuple.getThrowable()).isSameAs(e);
+        assertThat(tuple.getArgArray()).containsExactly("job");
+    }
+
+    @Test
+    void arrays() {
+        Object[] nested = {1, new int[]{2, 3}, new String[]{"a", "b"}};
+        assertThat(MessageFormatter.format("v={}", nested).getMessage()).isEqualTo("v=[1, [2, 3], [a, b]]");
+
+        Object[] cycle = {"self", null};
+        cycle[1] = cycle;
+        assertThat(MessageFormatter.format("v={}", cycle).getMessage()).isEqualTo("v=[self, [...]]");
+
+        //兄弟节点重复出现不是循环引用
+        Object[] shared = {"x"};
+        assertThat(MessageFormatter.format("v={}", (Object) new Object[]{shared, shared}).getMessage())
+                .isEqualTo("v=[[x], [x]]");
+    }
+
+    @Test
+    void reentrantAndLongMessages() {
+        Object reentrant = new Object() {
+            @Override
+            public String toString() {
+                return MessageFormatter.format("inner {}", "value").getMessage();
+            }
+        };
+        assertThat(MessageFormatter.format("outer {} {}", reentrant, "end").getMessage())
+                .isEqualTo("outer inner value end");
+
+        StringBuilder longArg = new StringBuilder();
+        for (int i = 0; i < MessageFormatter.MAX_POOLED_CAPACITY; i++) {
+            longArg.append('x');
+        }
+        assertThat(MessageFormatter.format("[{}]", longArg).getMessage()).hasSize(longArg.length() + 2);
+        assertThat(MessageFormatter.format("short {}", 1).getMessage()).isEqualTo("short 1");
+    }
+}
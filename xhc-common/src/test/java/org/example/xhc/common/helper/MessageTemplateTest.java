@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 测试预编译的消息模式
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+class MessageTemplateTest {
+
+    @Test
+    void compileIsCached() {
+        assertThat(MessageTemplate.compile("cached {}")).isSameAs(MessageTemplate.compile("cached {}"));
+        assertThat(MessageTemplate.compile("plain").format("x")).isEqualTo("plain");
+        assertThat(MessageTemplate.compile("{}").format()).isEqualTo("{}");
+    }
+
+    @Test
+    void escapes() {
+        assertThat(MessageTemplate.compile("a \\{} b {}").format("x")).isEqualTo("a {} b x");
+        assertThat(MessageTemplate.compile("C:\\\\{} {}").format("dir", "file")).isEqualTo("C:\\dir file");
+        assertThat(MessageTemplate.compile("{{}}").format("x")).isEqualTo("{x}");
+        //参数用完后剩余部分原样输出
+        assertThat(MessageTemplate.compile("{} \\{} {}").format("x")).isEqualTo("x \\{} {}");
+        assertThat(MessageTemplate.compile("\\{} {}").format("x", "y")).isEqualTo("{} x");
+        assertThat(MessageTemplate.compile("{} {} {} {} {} {}").format(1, 2, 3, 4, 5, 6)).isEqualTo("1 2 3 4 5 6");
+    }
+
+    @Test
+    void formatTo() {
+        MessageTemplate template = MessageTemplate.compile("id={}, tags={}");
+
+        StringBuilder builder = new StringBuilder("> ");
+        assertThat(template.formatTo(builder, 1, new String[]{"a", "b"})).isSameAs(builder);
+        assertThat(builder).hasToString("> id=1, tags=[a, b]");
+
+        StringWriter writer = template.formatTo(new StringWriter(), 2, null);
+        assertThat(writer).hasToString("id=2, tags=null");
+    }
+
+    @Test
+    void arrayFormatKeepsThrowable() {
+        IllegalStateException e = new IllegalStateException("boom");
+        FormattingTuple tuple = MessageFormatter.arrayFormat("{} failed: {}", new Object[]{"job", e});
+
+        assertThat(tuple.getMessage()).isEqualTo("job failed: {}");
+        assertThat(tuple.getThrowable()).isSameAs(e);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.xhc.common.codegen.JsonCodegen;
+import org.example.xhc.common.util.JacksonUtilsBenchmark.Order;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 二进制格式基准测试：Smile、CBOR 对比 JSON 的编码、解码吞吐量
+ * <p>
+ * 负载为服务间调用的响应（与demo-consumer的ResponseDTO结构相同）和订单；
+ * 各格式的负载大小在运行前打印
+ * 运行方式：执行main方法，或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+    @Param({"RESPONSE", "ORDER"})
+    private Payload payload;
+
+    private Object value;
+    private Class<?> type;
+    private byte[] json;
+    private byte[] smile;
+    private byte[] cbor;
+
+    @Setup
+    public void setup() {
+        value = payload.value;
+        type = value.getClass();
+        json = JacksonUtils.toBytes(value);
+        smile = JacksonUtils.toSmile(value);
+        cbor = JacksonUtils.toCbor(value);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return JacksonUtils.toBytes(value);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() {
+        return JacksonUtils.toSmile(value);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() {
+        return JacksonUtils.toCbor(value);
+    }
+
+    @Benchmark
+    public Object decodeJson() {
+        return JacksonUtils.from(json, 0, json.length, type);
+    }
+
+    @Benchmark
+    public Object decodeSmile() {
+        return JacksonUtils.fromSmile(smile, type);
+    }
+
+    @Benchmark
+    public Object decodeCbor() {
+        return JacksonUtils.fromCbor(cbor, type);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (Payload payload : Payload.values()) {
+            System.out.printf("%s payload size: json=%d, smile=%d, cbor=%d bytes%n", payload,
+                    JacksonUtils.toBytes(payload.value).length,
+                    JacksonUtils.toSmile(payload.value).length,
+                    JacksonUtils.toCbor(payload.value).length);
+        }
+        new Runner(new OptionsBuilder().include(BinaryFormatBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * 负载
+     */
+    public enum Payload {
+        /**
+         * 服务间调用的响应
+         */
+        RESPONSE(new ResponseDTO("处理成功", LocalDateTime.of(2022, 10, 1, 12, 0))),
+        /**
+         * 订单
+         */
+        ORDER(Order.sample(1L));
+
+        private final Object value;
+
+        Payload(Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * 响应内容（与demo-consumer的ResponseDTO结构相同，xhc-common不依赖demo模块）
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonCodegen
+    public static class ResponseDTO {
+        private String msg;
+        private LocalDateTime responseTime;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.example.xhc.common.codegen.JsonCodegen;
+import org.example.xhc.common.util.BinaryFormatBenchmark.ResponseDTO;
+import org.example.xhc.common.util.JacksonUtilsBenchmark.Order;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 编译期生成的编解码器基准测试：对比Bean内省（默认的BeanSerializer）、Afterburner、Blackbird
+ * <p>
+ * 负载为服务间调用的请求、响应（与demo模块的RequestDTO、ResponseDTO结构相同）和订单，均标注了 {@link JsonCodegen}；
+ * 生成的编解码器由默认的JacksonUtils自动注册，其余三种使用 {@link JacksonCodec#beanIntrospectionOnly()} 的ObjectMapper
+ * 运行方式：执行main方法，或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodegenBenchmark {
+    @Param({"REQUEST", "RESPONSE", "ORDER"})
+    private Payload payload;
+
+    @Param({"BEAN", "AFTERBURNER", "BLACKBIRD", "GENERATED"})
+    private Strategy strategy;
+
+    private ObjectMapper mapper;
+    private Object value;
+    private Class<?> type;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        mapper = strategy.mapper();
+        value = payload.value;
+        type = value.getClass();
+        json = JacksonUtils.toBytes(value);
+    }
+
+    @Benchmark
+    @SneakyThrows
+    public byte[] serialize() {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    @SneakyThrows
+    public Object deserialize() {
+        return mapper.readValue(json, type);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CodegenBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * 序列化方式
+     */
+    public enum Strategy {
+        /**
+         * Bean内省，Jackson默认的方式
+         */
+        BEAN,
+        /**
+         * Afterburner，字节码生成的属性访问器
+         */
+        AFTERBURNER,
+        /**
+         * Blackbird，LambdaMetafactory生成的属性访问器
+         */
+        BLACKBIRD,
+        /**
+         * 编译期生成的编解码器
+         */
+        GENERATED;
+
+        ObjectMapper mapper() {
+            ObjectMapper bean = JacksonCodec.beanIntrospectionOnly().jsonMapper();
+            switch (this) {
+                case AFTERBURNER:
+                    return bean.copy().registerModule(new AfterburnerModule());
+                case BLACKBIRD:
+                    return bean.copy().registerModule(new BlackbirdModule());
+                case GENERATED:
+                    return JacksonUtils.jsonMapper();
+                default:
+                    return bean;
+            }
+        }
+    }
+
+    /**
+     * 负载
+     */
+    public enum Payload {
+        /**
+         * 服务间调用的请求
+         */
+        REQUEST(new RequestDTO("127.0.0.1", LocalDateTime.of(2022, 10, 1, 12, 0))),
+        /**
+         * 服务间调用的响应
+         */
+        RESPONSE(new ResponseDTO("处理成功", LocalDateTime.of(2022, 10, 1, 12, 0))),
+        /**
+         * 订单
+         */
+        ORDER(Order.sample(1L));
+
+        private final Object value;
+
+        Payload(Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * 请求内容（与demo-consumer的RequestDTO结构相同，xhc-common不依赖demo模块）
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonCodegen
+    public static class RequestDTO {
+        private String ip;
+        private LocalDateTime requestTime;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import org.example.xhc.common.util.JacksonUtilsBenchmark.Order;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * CSV加载基准测试：单线程 fromCsvFile、流式 openCsvReader 对比 并行 fromCsvFileParallel/streamCsvFileParallel
+ * <p>
+ * 测试数据为生成的订单CSV文件，默认两百万行，可以通过 -p rows=... 调整
+ * 运行方式：执行main方法，或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CsvParallelLoaderBenchmark {
+    @Param("2000000")
+    private int rows;
+
+    private Path path;
+
+    @Setup
+    public void setup() throws IOException {
+        path = Files.createTempFile("orders", ".csv");
+        try (CsvStreamWriter<Order> writer = JacksonUtils.openCsvWriter(path, Order.class)) {
+            for (long i = 0; i < rows; i++) {
+                writer.write(Order.sample(i));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public List<Order> sequentialList() {
+        return JacksonUtils.fromCsvFile(path.toString(), Order.class);
+    }
+
+    @Benchmark
+    public long sequentialStream() {
+        try (CsvStreamReader<Order> reader = JacksonUtils.openCsvReader(path, Order.class)) {
+            return reader.stream().count();
+        }
+    }
+
+    @Benchmark
+    public List<Order> parallelList() {
+        return JacksonUtils.fromCsvFileParallel(path, Order.class);
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        try (Stream<Order> orders = JacksonUtils.streamCsvFileParallel(path, Order.class)) {
+            return orders.count();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CsvParallelLoaderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
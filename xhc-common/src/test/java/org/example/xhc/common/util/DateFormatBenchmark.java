@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Date序列化基准测试：setDateFormat(SimpleDateFormat) 对比 DateFormatModule
+ * <p>
+ * 序列化1000个订单，创建时间只有 {@code distinctSeconds} 个不同的值（同一批次的订单时间戳大量重复）
+ * 建议加 -prof gc 对比分配量
+ * 运行方式：执行main方法，或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateFormatBenchmark {
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss";
+    private static final int ORDERS = 1000;
+
+    @Param({"10", "1000"})
+    private int distinctSeconds;
+
+    private List<DatedOrder> orders;
+    private ObjectWriter simpleDateFormat;
+    private ObjectWriter dateFormatModule;
+
+    @Setup
+    public void setup() {
+        orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            Date createTime = new Date(1664596800000L + (i % distinctSeconds) * 1000L);
+            orders.add(new DatedOrder((long) i, "SN" + i, new BigDecimal("98.00"), createTime, createTime));
+        }
+        simpleDateFormat = new ObjectMapper()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setDateFormat(new SimpleDateFormat(PATTERN))
+                .writer();
+        dateFormatModule = new ObjectMapper()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .registerModule(new DateFormatModule(PATTERN))
+                .writer();
+    }
+
+    @Benchmark
+    @SneakyThrows
+    public byte[] simpleDateFormat() {
+        return simpleDateFormat.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    @SneakyThrows
+    public byte[] dateFormatModule() {
+        return dateFormatModule.writeValueAsBytes(orders);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DateFormatBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * 使用java.util.Date的订单
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DatedOrder {
+        private Long id;
+        private String orderSn;
+        private BigDecimal payAmount;
+        private Date createTime;
+        private Date paymentTime;
+    }
+}
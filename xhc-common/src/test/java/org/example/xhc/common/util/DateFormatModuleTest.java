@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 测试Date的序列化、反序列化模块
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+class DateFormatModuleTest {
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss";
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new DateFormatModule(PATTERN));
+
+    @Test
+    void sameAsSimpleDateFormat() throws Exception {
+        SimpleDateFormat format = new SimpleDateFormat(PATTERN);
+        Date date = new Date(1664596800123L);
+
+        String json = JacksonUtils.to(new Event(date, date));
+
+        assertThat(json).isEqualTo("{\"time\":\"" + format.format(date) + "\",\"day\":\"20221001\"}");
+        Event event = JacksonUtils.from(json, Event.class);
+        assertThat(event.getTime()).isEqualTo(new Date(1664596800000L));
+        assertThat(event.getDay()).isEqualTo(new Date(1664553600000L));
+    }
+
+    @Test
+    void timestampsAndFallback() throws IOException {
+        Date date = new Date(1664596800000L);
+
+        assertThat(MAPPER.readValue("1664596800000", Date.class)).isEqualTo(date);
+        assertThat(MAPPER.readValue("\"2022-10-01T04:00:00.000Z\"", Date.class)).isEqualTo(date);
+        assertThat(MAPPER.readValue("\"\"", Date.class)).isNull();
+        assertThat(MAPPER.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writeValueAsString(date))
+                .isEqualTo("1664596800000");
+    }
+
+    @Test
+    void zoneAndMilliseconds() throws IOException {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new DateFormatModule("yyyy-MM-dd HH:mm:ss.SSS", ZoneId.of("UTC")))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        assertThat(mapper.writeValueAsString(new Date(1664596800123L))).isEqualTo("\"2022-10-01 04:00:00.123\"");
+        assertThat(mapper.writeValueAsString(new Date(1664596800456L))).isEqualTo("\"2022-10-01 04:00:00.456\"");
+    }
+
+    @Test
+    void concurrentFormatting() throws Exception {
+        SimpleDateFormat format = new SimpleDateFormat(PATTERN);
+        DateFormatModule.Serializer serializer = new DateFormatModule.Serializer(
+                DateTimeFormatter.ofPattern(PATTERN).withZone(ZoneId.systemDefault()), true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final long offset = t * 7919L;
+                futures.add(executor.submit(() -> {
+                    SimpleDateFormat expected = (SimpleDateFormat) format.clone();
+                    for (long i = 0; i < 20000; i++) {
+                        long millis = 1664596800000L + ((i * 31 + offset) % 5000) * 1000L;
+                        if (!expected.format(new Date(millis)).equals(serializer.format(millis))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Event {
+        private Date time;
+        @JsonFormat(pattern = "yyyyMMdd", timezone = "GMT+8")
+        private Date day;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.example.xhc.common.codegen.JsonCodegen;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JacksonUtils基准测试：缓存的ObjectReader/ObjectWriter 对比 直接调用ObjectMapper
+ * <p>
+ * 运行方式：执行main方法，或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonUtilsBenchmark {
+    private static final TypeReference<List<Order>> ORDER_LIST = new TypeReference<List<Order>>() {
+    };
+
+    private ObjectMapper mapper;
+    private Order order;
+    private String orderJson;
+    private String orderListJson;
+
+    @Setup
+    public void setup() {
+        mapper = JacksonUtils.jsonMapper();
+        order = Order.sample(1L);
+        orderJson = JacksonUtils.to(order);
+        List<Order> orders = new ArrayList<>();
+        for (long i = 0; i < 20; i++) {
+            orders.add(Order.sample(i));
+        }
+        orderListJson = JacksonUtils.to(orders);
+    }
+
+    @Benchmark
+    @SneakyThrows
+    public Order readDirect() {
+        return mapper.readValue(orderJson, Order.class);
+    }
+
+    @Benchmark
+    public Order readCached() {
+        return JacksonUtils.from(orderJson, Order.class);
+    }
+
+    @Benchmark
+    @SneakyThrows
+    public List<Order> readListDirect() {
+        return mapper.readValue(orderListJson, ORDER_LIST);
+    }
+
+    @Benchmark
+    public List<Order> readListCached() {
+        return JacksonUtils.from(orderListJson, ORDER_LIST);
+    }
+
+    @Benchmark
+    @SneakyThrows
+    public String writeDirect() {
+        return mapper.writeValueAsString(order);
+    }
+
+    @Benchmark
+    public String writeCached() {
+        return JacksonUtils.to(order);
+    }
+
+    @Benchmark
+    public byte[] writeStringThenEncode() {
+        return JacksonUtils.to(order).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] writeBytes() {
+        return JacksonUtils.toBytes(order);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JacksonUtilsBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * 订单（与 oms_order 结构相近的基准测试数据）
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonCodegen
+    public static class Order {
+        private Long id;
+        private Long memberId;
+        private String orderSn;
+        private LocalDateTime createDate;
+        private String memberUsername;
+        private BigDecimal totalAmount;
+        private BigDecimal payAmount;
+        private Integer status;
+        private String receiverName;
+        private String receiverPhone;
+
+        static Order sample(long id) {
+            return new Order(id, 1000L + id, "SN" + id, LocalDateTime.of(2022, 10, 1, 12, 0),
+                    "member" + id, new BigDecimal("100.50"), new BigDecimal("98.00"), 1, "张三", "13800000000");
+        }
+    }
+}
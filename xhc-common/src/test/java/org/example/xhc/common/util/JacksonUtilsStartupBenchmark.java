@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JacksonUtils启动基准测试：首次使用JacksonUtils的耗时、加载的类数量和堆占用
+ * <p>
+ * 每次测量都在新的JVM中进行（SingleShotTime + 多次fork），所以测到的是类加载和初始化的冷启动成本
+ * jsonOnly 只使用JSON，非JSON格式的ObjectMapper不会被创建；
+ * allFormats 依次使用全部数据格式，相当于延迟初始化之前在类初始化时创建全部ObjectMapper的成本
+ * <p>
+ * 辅助计数器 loadedClasses、heapUsedKb 为首次使用前后的差值
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class JacksonUtilsStartupBenchmark {
+    private static final Sample VALUE = new Sample(1L, "sample");
+
+    @Benchmark
+    public Object jsonOnly(Footprint footprint) {
+        footprint.begin();
+        String json = JacksonUtils.to(VALUE);
+        footprint.end();
+        return json;
+    }
+
+    @Benchmark
+    public Object allFormats(Footprint footprint) {
+        footprint.begin();
+        String json = JacksonUtils.to(VALUE);
+        String yaml = JacksonUtils.toYaml(VALUE);
+        String xml = JacksonUtils.toXml(VALUE);
+        String prop = JacksonUtils.toProp(VALUE);
+        String csv = JacksonUtils.toCsv(Collections.singletonList(VALUE));
+        footprint.end();
+        return json + yaml + xml + prop + csv;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JacksonUtilsStartupBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * 首次使用前后的类加载数量和堆占用
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        private final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        public long loadedClasses;
+        public long heapUsedKb;
+
+        void begin() {
+            System.gc();
+            loadedClasses = -classLoading.getTotalLoadedClassCount();
+            heapUsedKb = -memory.getHeapMemoryUsage().getUsed() / 1024;
+        }
+
+        void end() {
+            loadedClasses += classLoading.getTotalLoadedClassCount();
+            heapUsedKb += memory.getHeapMemoryUsage().getUsed() / 1024;
+        }
+    }
+
+    /**
+     * 测试数据
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Sample {
+        private Long id;
+        private String name;
+    }
+}
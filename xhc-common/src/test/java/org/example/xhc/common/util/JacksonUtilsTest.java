@@ -4,7 +4,36 @@
 
 package org.example.xhc.common.util;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.cache.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 /**
  * 测试工具类
@@ -17,4 +46,341 @@ class JacksonUtilsTest {
     @Test
     void from() {
     }
-}
\ No newline at end of file
+
+    @Test
+    void stream() {
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream("json/student_array.json");
+
+        try (Stream<Student> students = JacksonUtils.stream(inputStream, Student.class)) {
+            List<String> names = students.map(Student::getName).collect(Collectors.toList());
+
+            assertThat(names).containsExactly("jack", "tom", "eva");
+        }
+    }
+
+    @Test
+    void resourceCache() {
+        TypeReference<List<Student>> type = new TypeReference<List<Student>>() {
+        };
+        List<Student> uncached = JacksonUtils.fromResource("json/student_array.json", type);
+        assertThat(JacksonUtils.fromResource("json/student_array.json", type)).isNotSameAs(uncached);
+
+        JacksonUtils.enableResourceCache(16, Duration.ofMinutes(1));
+        try {
+            List<Student> students = JacksonUtils.fromResource("json/student_array.json", type);
+            assertThat(students).isEqualTo(uncached);
+            //命中时绑定新的对象，修改返回值不影响之后的调用
+            students.get(0).setName("changed");
+            List<Student> hit = JacksonUtils.fromResource("json/student_array.json", type);
+            assertThat(hit).isNotSameAs(students).isEqualTo(uncached);
+            assertThat(JacksonUtils.fromResource("json/student_array.json", Student[].class)).hasSize(3);
+            assertThat(JacksonUtils.fromResource("json/missing.json", type)).isNull();
+            assertThat(JacksonUtils.fromResource("json/missing.json", type)).isNull();
+
+            CacheStats stats = JacksonUtils.resourceCacheStats();
+            assertThat(stats.hitCount()).isEqualTo(3);
+            assertThat(stats.missCount()).isEqualTo(2);
+
+            JacksonUtils.invalidateResourceCache();
+            assertThat(JacksonUtils.fromResource("json/student_array.json", type)).isEqualTo(uncached);
+            assertThat(JacksonUtils.resourceCacheStats().missCount()).isEqualTo(3);
+        } finally {
+            JacksonUtils.disableResourceCache();
+        }
+        assertThat(JacksonUtils.resourceCacheStats().requestCount()).isZero();
+    }
+
+    @Test
+    void streamIsLazyAndClosesSource() {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream inputStream = new ByteArrayInputStream("[{\"name\":\"a\"},{\"name\":\"b\"},{broken".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        try (Stream<Student> students = JacksonUtils.stream(inputStream, Student.class)) {
+            assertThat(students.limit(2).map(Student::getName)).containsExactly("a", "b");
+        }
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void cachedWriterFollowsReconfiguration() {
+        Student student = new Student("1", "jack", null, 8, null, null);
+        assertThat(JacksonUtils.to(student)).isEqualTo("{\"no\":\"1\",\"name\":\"jack\",\"age\":8}");
+
+        try {
+            JacksonUtils.setIndentOutput(true);
+            assertThat(JacksonUtils.to(student)).contains(System.lineSeparator());
+        } finally {
+            JacksonUtils.setIndentOutput(false);
+        }
+        assertThat(JacksonUtils.to(student)).doesNotContain(System.lineSeparator());
+    }
+
+    @Test
+    void codecsWithDifferentConfigurationAreIndependent() {
+        Student student = new Student("1", "", null, 8, null, null);
+        JacksonCodec nonEmpty = JacksonUtils.builder().serializationInclusion(JsonInclude.Include.NON_EMPTY).build();
+        JacksonCodec indent = JacksonUtils.builder().indentOutput(true).build();
+
+        assertThat(nonEmpty.to(student)).isEqualTo("{\"no\":\"1\",\"age\":8}");
+        assertThat(indent.to(student)).contains(System.lineSeparator()).contains("\"name\" : \"\"");
+        assertThat(JacksonUtils.to(student)).isEqualTo("{\"no\":\"1\",\"name\":\"\",\"age\":8}");
+        assertThat(nonEmpty.from(nonEmpty.to(student), Student.class).getAge()).isEqualTo(8);
+    }
+
+    @Test
+    void bytesRoundTripForEveryFormat() {
+        Student student = new Student("1", "jack", "male", 8, null, "201903");
+        for (DataFormat format : DataFormat.values()) {
+            if (format == DataFormat.CSV) {
+                byte[] bytes = JacksonUtils.toBytes(format, Collections.singletonList(student));
+                assertThat(JacksonUtils.from(format, bytes, 0, bytes.length, Student[].class)).containsExactly(student);
+            } else {
+                byte[] bytes = JacksonUtils.toBytes(format, student);
+                assertThat(JacksonUtils.from(format, bytes, 0, bytes.length, Student.class)).as(format.name()).isEqualTo(student);
+            }
+        }
+    }
+
+    @Test
+    void binaryFormats() {
+        List<Student> students = Arrays.asList(new Student("1", "jack", null, 8, LocalDateTime.of(2015, 1, 1, 8, 0), null),
+                new Student("2", "tom", null, 9, null, null));
+        TypeReference<List<Student>> type = new TypeReference<List<Student>>() {
+        };
+
+        byte[] smile = JacksonUtils.toSmile(students);
+        byte[] cbor = JacksonUtils.toCbor(students);
+
+        assertThat(JacksonUtils.fromSmile(smile, type)).isEqualTo(students);
+        assertThat(JacksonUtils.fromCbor(cbor, type)).isEqualTo(students);
+        assertThat(JacksonUtils.fromSmile(JacksonUtils.toSmile(students.get(0)), Student.class)).isEqualTo(students.get(0));
+        assertThat(smile.length).isLessThan(JacksonUtils.toBytes(students).length);
+    }
+
+    @Test
+    void writeToStreamAndBuffer() {
+        Student student = new Student("1", "jack", null, 8, null, null);
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        JacksonUtils.writeTo(outputStream, student);
+        assertThat(closed).isFalse();
+        assertThat(outputStream.toByteArray()).isEqualTo(JacksonUtils.toBytes(student))
+                .isEqualTo(JacksonUtils.to(student).getBytes(StandardCharsets.UTF_8));
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) ' ');
+        JacksonUtils.writeTo(buffer, student);
+        assertThat(JacksonUtils.from(buffer.array(), 1, buffer.position() - 1, Student.class)).isEqualTo(student);
+    }
+
+    @Test
+    void csvStreamWriteAndRead(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("students.csv");
+        try (CsvStreamWriter<Student> writer = JacksonUtils.openCsvWriter(path, Student.class)) {
+            for (int i = 0; i < 2500; i++) {
+                writer.write(new Student(String.valueOf(i), "name" + i, "male", i % 20, null, "201903"));
+            }
+        }
+        try (CsvStreamWriter<Student> writer = JacksonUtils.openCsvWriter(path, ",", Student.class, true)) {
+            long size = Files.size(path);
+            writer.write(new Student("2500", "appended", "female", 9, null, "201904"));
+            //逐行写入不刷新，由flush、close写出
+            assertThat(Files.size(path)).isEqualTo(size);
+            writer.flush();
+            assertThat(Files.size(path)).isGreaterThan(size);
+        }
+
+        try (CsvStreamReader<Student> reader = JacksonUtils.openCsvReader(path, Student.class)) {
+            assertThat(reader.next().getName()).isEqualTo("name0");
+            assertThat(reader.nextBatch(1000)).hasSize(1000);
+            assertThat(reader.nextBatch(1000)).hasSize(1000);
+            List<Student> last = reader.nextBatch(1000);
+            assertThat(last).hasSize(500);
+            assertThat(last.get(last.size() - 1).getName()).isEqualTo("appended");
+            assertThat(reader.nextBatch(1000)).isEmpty();
+        }
+        try (Stream<List<Student>> batches = JacksonUtils.openCsvReader(path, Student.class).batches(1000)) {
+            assertThat(batches.mapToInt(List::size)).containsExactly(1000, 1000, 501);
+        }
+    }
+
+    @Test
+    void csvParallelLoadMatchesSequential(@TempDir Path dir) {
+        Path path = dir.resolve("students.csv");
+        try (CsvStreamWriter<Student> writer = JacksonUtils.openCsvWriter(path, Student.class)) {
+            for (int i = 0; i < 60000; i++) {
+                String name = i % 7 == 0 ? "multi\nline, \"quoted\" " + i : "name" + i;
+                writer.write(new Student(String.valueOf(i), name, "male", i % 20, null, "201903"));
+            }
+        }
+
+        List<Student> expected = JacksonUtils.fromCsvFile(path.toString(), Student.class);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertThat(JacksonUtils.fromCsvFileParallel(path, ",", Student.class, pool)).hasSize(60000).isEqualTo(expected);
+        } finally {
+            pool.shutdown();
+        }
+        try (Stream<Student> students = JacksonUtils.streamCsvFileParallel(path, Student.class)) {
+            assertThat(students.collect(Collectors.toList())).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void csvParallelLoadThrowsSameErrorAsSequential(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("invalid.csv");
+        Files.write(path, "no,name,age\n1,jack,8\n2,tom,abc\n".getBytes(StandardCharsets.UTF_8));
+
+        Throwable expected = catchThrowable(() -> JacksonUtils.fromCsvFile(path.toString(), Student.class));
+        assertThat(expected).isNotNull();
+        assertThatThrownBy(() -> JacksonUtils.fromCsvFileParallel(path, Student.class))
+                .isExactlyInstanceOf(expected.getClass());
+    }
+
+    @Test
+    void jsonLinesAppendAndRead(@TempDir Path dir) throws IOException {
+        List<Student> first = Arrays.asList(new Student("1", "jack", null, 8, null, null), new Student("2", "tom", null, 9, null, null));
+        List<Student> second = Collections.singletonList(new Student("3", "eva", null, 7, null, null));
+
+        for (boolean gzip : new boolean[]{false, true}) {
+            Path path = dir.resolve(gzip ? "events.ndjson.gz" : "events.ndjson");
+            JacksonUtils.appendJsonLines(path, first, gzip);
+            JacksonUtils.appendJsonLines(path, second, gzip);
+
+            if (!gzip) {
+                assertThat(Files.readAllLines(path)).hasSize(3).allSatisfy(line -> assertThat(line).startsWith("{"));
+            }
+            try (Stream<Student> students = JacksonUtils.fromJsonLines(path, Student.class)) {
+                assertThat(students.map(Student::getName)).containsExactly("jack", "tom", "eva");
+            }
+        }
+    }
+
+    @Test
+    void jsonLinesArrayRecords(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("arrays.ndjson");
+        JacksonUtils.appendJsonLines(path, Arrays.asList(new int[]{1, 2}, new int[]{3}));
+
+        //每行一个数组，不展开第一行
+        assertThat(Files.readAllLines(path)).containsExactly("[1,2]", "[3]");
+        try (Stream<int[]> rows = JacksonUtils.fromJsonLines(path, int[].class)) {
+            assertThat(rows.collect(Collectors.toList())).containsExactly(new int[]{1, 2}, new int[]{3});
+        }
+        try (Stream<Student> students = JacksonUtils.fromJsonLines(new ByteArrayInputStream(new byte[0]), Student.class)) {
+            assertThat(students).isEmpty();
+        }
+    }
+
+    @Test
+    void addUpdateRemove() {
+        String json = "{\"name\":\"jack\",\"age\":8}";
+        Student student = new Student("1", "tom", null, null, null, null);
+
+        assertThat(JacksonUtils.add(json, "friend", student)).isEqualTo("{\"name\":\"jack\",\"age\":8,\"friend\":{\"no\":\"1\",\"name\":\"tom\"}}");
+        assertThat(JacksonUtils.update(json, "age", 9)).isEqualTo("{\"name\":\"jack\",\"age\":9}");
+        //原位替换，不移到末尾
+        assertThat(JacksonUtils.update(json, "name", "tom")).isEqualTo("{\"name\":\"tom\",\"age\":8}");
+        assertThat(JacksonUtils.update(json, "sex", "male")).isEqualTo("{\"name\":\"jack\",\"age\":8,\"sex\":\"male\"}");
+        assertThat(JacksonUtils.remove(json, "age")).isEqualTo("{\"name\":\"jack\"}");
+        assertThat(JacksonUtils.mergePatch(json, "{\"age\":null,\"sex\":\"male\"}")).isEqualTo("{\"name\":\"jack\",\"sex\":\"male\"}");
+        assertThat(JacksonUtils.patch(json, "[{\"op\":\"replace\",\"path\":\"/age\",\"value\":10}]")).isEqualTo("{\"name\":\"jack\",\"age\":10}");
+    }
+
+    @Test
+    void addUpdateRemoveLiteralKey() {
+        //key是字段名，“.”、“[”、“/”不作为路径分隔符
+        assertThat(JacksonUtils.add("{\"a\":1}", "a.b", 2)).isEqualTo("{\"a\":1,\"a.b\":2}");
+        assertThat(JacksonUtils.update("{\"a.b\":1}", "a.b", 2)).isEqualTo("{\"a.b\":2}");
+        assertThat(JacksonUtils.remove("{\"a.b\":1,\"a\":{\"b\":2}}", "a.b")).isEqualTo("{\"a\":{\"b\":2}}");
+        assertThat(JacksonUtils.add("{}", "/x[0]", 1)).isEqualTo("{\"/x[0]\":1}");
+
+        assertThat(JacksonUtils.addPath("{\"a\":{}}", "a.b", 2)).isEqualTo("{\"a\":{\"b\":2}}");
+        assertThat(JacksonUtils.removePath("{\"a.b\":1,\"a\":{\"b\":2}}", "a.b")).isEqualTo("{\"a.b\":1,\"a\":{}}");
+        assertThat(JacksonUtils.edit("{\"a.b\":1}").set("a.b", 2).remove("x.y").setPath("c.d", 3).apply())
+                .isEqualTo("{\"a.b\":2,\"c\":{\"d\":3}}");
+    }
+
+    @Test
+    void formatAndMinify(@TempDir Path dir) throws IOException {
+        String json = "{\"name\":\"jack\",\"scores\":[90,95.5],\"class\":{\"no\":\"201903\"}}";
+        String pretty = JacksonUtils.format(json);
+
+        assertThat(pretty).isEqualTo(JacksonUtils.jsonMapper().writerWithDefaultPrettyPrinter()
+                .writeValueAsString(JacksonUtils.jsonMapper().readTree(json)));
+        assertThat(JacksonUtils.minify(pretty)).isEqualTo(json);
+
+        Path source = dir.resolve("source.json");
+        Path formatted = dir.resolve("formatted.json");
+        Path minified = dir.resolve("minified.json");
+        Files.write(source, json.getBytes(StandardCharsets.UTF_8));
+        JacksonUtils.format(source, formatted);
+        JacksonUtils.minify(formatted, minified);
+        assertThat(new String(Files.readAllBytes(formatted), StandardCharsets.UTF_8)).isEqualTo(pretty);
+        assertThat(new String(Files.readAllBytes(minified), StandardCharsets.UTF_8)).isEqualTo(json);
+        assertThatThrownBy(() -> JacksonUtils.format(source, source)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void editInOnePass() {
+        String json = "{\"name\":\"jack\",\"age\":8,\"token\":\"x\"}";
+
+        String edited = JacksonUtils.edit(json).set("age", 9).remove("token").setPath("class.no", "201903").set("age", 10).apply();
+
+        assertThat(edited).isEqualTo("{\"name\":\"jack\",\"age\":10,\"class\":{\"no\":\"201903\"}}");
+        assertThat(edited).isEqualTo(JacksonUtils.update(JacksonUtils.addPath(JacksonUtils.remove(
+                JacksonUtils.update(json, "age", 9), "token"), "class.no", "201903"), "age", 10));
+        assertThat(JacksonUtils.edit(json).apply()).isSameAs(json);
+    }
+
+    @Test
+    void getByPath() {
+        String json = "{\"name\":\"jack\",\"age\":8,\"scores\":[90,95],\"class\":{\"no\":\"201903\",\"size\":30}}";
+
+        assertThat(JacksonUtils.getString(json, "name")).isEqualTo("\"jack\"");
+        assertThat(JacksonUtils.getInt(json, "age")).isEqualTo(8);
+        assertThat(JacksonUtils.getLong(json, "class.size")).isEqualTo(30L);
+        assertThat(JacksonUtils.getInt(json, "/scores/1")).isEqualTo(95);
+        assertThat(JacksonUtils.<Integer>getList(json, "scores")).containsExactly(90, 95);
+        assertThat(JacksonUtils.getString(json, "missing")).isNull();
+        assertThat(JacksonUtils.getNodes(json, "name", "class.no")).hasSize(2)
+                .hasEntrySatisfying("class.no", v -> assertThat(v.textValue()).isEqualTo("201903"));
+    }
+
+    @Test
+    void getLiteralKey() {
+        String json = "{\"a.b\":1,\"a\":{\"b\":2},\"/c\":[3],\"c\":[4]}";
+
+        //同名的顶层字段优先，没有时按路径查找
+        assertThat(JacksonUtils.getString(json, "a.b")).isEqualTo("1");
+        assertThat(JacksonUtils.getInt(json, "/a/b")).isEqualTo(2);
+        assertThat(JacksonUtils.<Integer>getList(json, "/c")).containsExactly(3);
+        assertThat(JacksonUtils.getInt(json, "c[0]")).isEqualTo(4);
+        assertThat(JacksonUtils.getInt("{\"a\":{\"b\":5}}", "a.b")).isEqualTo(5);
+        //路径的第一段出现在同名字段之前时仍以字段为准
+        assertThat(JacksonUtils.getString("{\"a\":{\"b\":2},\"a.b\":1}", "a.b")).isEqualTo("1");
+        assertThat(JacksonUtils.getString("{\"a\":{\"b\":2},\"a.b\":1}", "a.c")).isNull();
+        assertThat(JacksonUtils.getInt("[{\"a\":6}]", "[0].a")).isEqualTo(6);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Student {
+        private String no;
+        private String name;
+        private String sex;
+        private Integer age;
+        private LocalDateTime birthday;
+        private String classNo;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import org.example.xhc.common.util.JacksonUtilsBenchmark.Order;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON批量编辑基准测试：连续调用update/remove 对比 edit 一次扫描
+ * <p>
+ * 每次调用对订单json执行相同的 {@code edits} 个修改（其中每4个修改含1个删除）
+ * 运行方式：执行main方法，或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonEditBenchmark {
+    @Param({"1", "4", "8"})
+    private int edits;
+
+    private String json;
+    private String[] keys;
+
+    @Setup
+    public void setup() {
+        json = JacksonUtils.to(Order.sample(1L));
+        keys = new String[edits];
+        for (int i = 0; i < edits; i++) {
+            keys[i] = "ext.key" + i;
+        }
+    }
+
+    @Benchmark
+    public String chainedUpdate() {
+        String result = json;
+        for (int i = 0; i < edits; i++) {
+            result = i % 4 == 3 ? JacksonUtils.removePath(result, keys[i - 1]) : JacksonUtils.addPath(result, keys[i], i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String edit() {
+        JsonEditor editor = JacksonUtils.edit(json);
+        for (int i = 0; i < edits; i++) {
+            if (i % 4 == 3) {
+                editor.removePath(keys[i - 1]);
+            } else {
+                editor.setPath(keys[i], i);
+            }
+        }
+        return editor.apply();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonEditBenchmark.class.getSimpleName()).build()).run();
+    }
+}
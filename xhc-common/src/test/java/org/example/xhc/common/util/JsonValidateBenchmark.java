@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import org.example.xhc.common.helper.JsonValidator;
+import org.example.xhc.common.util.JacksonUtilsBenchmark.Order;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON校验基准测试：readTree 对比 token流校验
+ * <p>
+ * 输入为约 {@code megabytes} MB的订单数组；INVALID在末尾缺少“]”，需要扫描到最后才能发现错误
+ * 建议加 -prof gc 对比分配量
+ * 运行方式：执行main方法，或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class JsonValidateBenchmark {
+    @Param({"1", "16"})
+    private int megabytes;
+
+    @Param({"VALID", "INVALID"})
+    private Input input;
+
+    private String json;
+    private JsonValidator validator;
+
+    @Setup
+    public void setup() {
+        String order = JacksonUtils.to(Order.sample(1L));
+        int count = megabytes * 1024 * 1024 / order.length();
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(Order.sample(i));
+        }
+        json = JacksonUtils.to(orders);
+        if (input == Input.INVALID) {
+            json = json.substring(0, json.length() - 1);
+        }
+        validator = new JsonValidator(JacksonUtils.jsonMapper().getFactory(), 64, JsonValidator.UNLIMITED);
+    }
+
+    @Benchmark
+    public boolean readTree() {
+        try {
+            JacksonUtils.jsonMapper().readTree(json);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean isJson() {
+        return JacksonUtils.isJson(json);
+    }
+
+    @Benchmark
+    public boolean isJsonWithDepthLimit() {
+        return validator.isValid(json);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonValidateBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * 输入
+     */
+    public enum Input {
+        /**
+         * 合法
+         */
+        VALID,
+        /**
+         * 末尾缺少“]”
+         */
+        INVALID
+    }
+}
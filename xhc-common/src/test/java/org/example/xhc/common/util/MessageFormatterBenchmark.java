@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import org.example.xhc.common.helper.MessageFormatter;
+import org.example.xhc.common.helper.MessageTemplate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 消息格式化基准测试，关注每次调用的分配量（gc.alloc.rate.norm）
+ * <p>
+ * 模式与校验失败时的原因相同：标量参数、含数组参数、末尾为Throwable；
+ * template、templateTo 直接使用预编译的模式，后者追加到复用的StringBuilder
+ * 运行方式：执行main方法（已加GC分析器），或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类并加 -prof gc 运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageFormatterBenchmark {
+    private static final String PATTERN = "参数{}校验失败：期望{}，实际{}";
+    private static final MessageTemplate TEMPLATE = MessageTemplate.compile(PATTERN);
+    private static final IllegalArgumentException CAUSE = new IllegalArgumentException("invalid");
+
+    private Object[] scalars;
+    private Object[] withArray;
+    private Object[] withThrowable;
+    private final StringBuilder builder = new StringBuilder(128);
+
+    @Setup
+    public void setup() {
+        scalars = new Object[]{"orderSn", 32, 40};
+        withArray = new Object[]{"status", new Object[]{1, 2, 3}, new int[]{4, 5}};
+        withThrowable = new Object[]{"createDate", "yyyy-MM-dd", "2022/10/01", CAUSE};
+    }
+
+    @Benchmark
+    public String scalars() {
+        return MessageFormatter.arrayFormat(PATTERN, scalars).getMessage();
+    }
+
+    @Benchmark
+    public String withArray() {
+        return MessageFormatter.arrayFormat(PATTERN, withArray).getMessage();
+    }
+
+    @Benchmark
+    public String withThrowable() {
+        return MessageFormatter.arrayFormat(PATTERN, withThrowable).getMessage();
+    }
+
+    @Benchmark
+    public String template() {
+        return TEMPLATE.format(scalars);
+    }
+
+    @Benchmark
+    public int templateTo() {
+        builder.setLength(0);
+        return TEMPLATE.formatTo(builder, scalars).length();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MessageFormatterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 测试ObjectReader/ObjectWriter缓存
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+class ObjectCodecCacheTest {
+
+    @Test
+    void evictsInsteadOfStoppingWhenFull() {
+        ObjectCodecCache cache = new ObjectCodecCache(new ObjectMapper(), 16);
+        //与CsvParallelLoader相同，每种表头一个缓存键，数量远超容量
+        for (int i = 0; i < 1000; i++) {
+            cache.reader(String.class, Arrays.asList(',', "column" + i), m -> m.readerFor(String.class));
+            cache.writer(String.class, Arrays.asList(',', "column" + i), m -> m.writerFor(String.class));
+        }
+
+        assertThat(cache.reader(Integer.class)).isSameAs(cache.reader(Integer.class));
+        assertThat(cache.writer(Integer.class)).isSameAs(cache.writer(Integer.class));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 测试热加载的文件
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+class WatchedFileTest {
+    private static final long TIMEOUT_MILLIS = 15_000L;
+
+    @Test
+    void reloadsWhenFileChanges(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("config.yml");
+        write(file, "name: jack\nage: 8\n");
+
+        try (WatchedFile<Map<String, Object>> config = JacksonUtils.watchYamlFile(file.toString(),
+                new TypeReference<Map<String, Object>>() {
+                })) {
+            assertThat(config.get()).containsEntry("name", "jack");
+
+            write(file, "name: tom\nage: 9\n");
+            await(() -> "tom".equals(config.get().get("name")));
+            assertThat(config.getReloadCount()).isPositive();
+            assertThat(config.getLastReloadLatency()).isPositive();
+
+            //原子替换
+            Path temp = dir.resolve("config.yml.tmp");
+            write(temp, "name: eva\n");
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            await(() -> "eva".equals(config.get().get("name")));
+        }
+    }
+
+    @Test
+    void keepsOldValueWhenReloadFails(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("students.csv");
+        write(file, "no,name,sex,age,birthday,classNo\n1,jack,1,8,,201903\n");
+
+        try (WatchedFile<List<JacksonUtilsTest.Student>> students =
+                     JacksonUtils.watchCsvFile(file.toString(), JacksonUtilsTest.Student.class)) {
+            assertThat(students.get()).extracting(JacksonUtilsTest.Student::getName).containsExactly("jack");
+
+            write(file, "no,name,sex,age,birthday,classNo\n1,jack,1,not-a-number,,201903\n");
+            assertThat(students.reload()).isFalse();
+            assertThat(students.getFailureCount()).isPositive();
+            assertThat(students.getLastFailure()).isNotNull();
+            assertThat(students.get()).extracting(JacksonUtilsTest.Student::getName).containsExactly("jack");
+
+            write(file, "no,name,sex,age,birthday,classNo\n2,tom,1,9,,201903\n");
+            assertThat(students.reload()).isTrue();
+            assertThat(students.get()).extracting(JacksonUtilsTest.Student::getName).containsExactly("tom");
+        }
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.get()) {
+            assertThat(System.currentTimeMillis()).as("reload timeout").isLessThan(deadline);
+            Thread.sleep(20L);
+        }
+    }
+}
@@ -7,9 +7,16 @@ package org.example.xhc.demo.base.exception;
 import lombok.Getter;
 import org.example.xhc.demo.base.util.ErrorContext;
 
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * 标准业务异常，业务服务中的业务相关异常的超类
  * 免检异常，不需要在方法或构造函数的throws子句中声明。
+ * <p>
+ * 校验失败等作为控制流的业务异常，主要开销在于填充堆栈；通过 {@link #setStackTraceMode(StackTraceMode)} 可以不填充堆栈，
+ * 或者对只有错误码的错误复用预先创建的异常，见 {@link StackTraceMode}。由 {@link #of(ErrorContext)} 按当前模式创建
  *
  * @author xiaohongchao
  * @since 1.0.0
@@ -18,6 +25,16 @@ import org.example.xhc.demo.base.util.ErrorContext;
 public class BusinessException extends RuntimeException {
     private static final long serialVersionUID = -3546073653800972528L;
 
+    /**
+     * 复用的异常，以错误码为键
+     */
+    private static final ConcurrentMap<String, BusinessException> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 堆栈模式
+     */
+    private static volatile StackTraceMode stackTraceMode = StackTraceMode.FULL;
+
     /**
      * 错误上下文
      */
@@ -44,4 +61,92 @@ public class BusinessException extends RuntimeException {
         this.errorContext = errorContext;
     }
 
+    /**
+     * 构造函数
+     *
+     * @param errorContext       错误上下文（保存以供以后通过getErrorContext()方法检索）。
+     * @param cause              原因（保存以供以后通过getCause()方法检索）。 （允许使用空值，表示原因不存在或未知。）
+     * @param enableSuppression  是否允许添加被抑制的异常
+     * @param writableStackTrace 是否填充堆栈
+     */
+    protected BusinessException(ErrorContext errorContext, Throwable cause, boolean enableSuppression,
+                                boolean writableStackTrace) {
+        super(errorContext == null ? null : errorContext.toString(), cause, enableSuppression, writableStackTrace);
+        this.errorContext = errorContext;
+    }
+
+    /**
+     * 按当前的堆栈模式创建业务异常
+     *
+     * @param errorContext 错误上下文
+     * @return 业务异常
+     */
+    public static BusinessException of(ErrorContext errorContext) {
+        Objects.requireNonNull(errorContext);
+        Throwable cause = errorContext.getCause();
+        switch (stackTraceMode) {
+            case CACHED:
+                if (isCodeOnly(errorContext)) {
+                    BusinessException cached = CACHE.computeIfAbsent(errorContext.getCode(),
+                            k -> new BusinessException(errorContext, null, false, false));
+                    if (Objects.equals(cached.errorContext.getMessage(), errorContext.getMessage())) {
+                        return cached;
+                    }
+                }
+                return new BusinessException(errorContext, cause, true, false);
+            case STACKLESS:
+                return new BusinessException(errorContext, cause, true, false);
+            default:
+                return cause == null
+                        ? new BusinessException(errorContext)
+                        : new BusinessException(errorContext, cause);
+        }
+    }
+
+    /**
+     * 设置堆栈模式，影响之后通过 {@link #of(ErrorContext)}（ErrorContext.toException()）创建的异常
+     * 全局生效，建议仅在应用启动时设置
+     *
+     * @param mode 堆栈模式
+     */
+    public static void setStackTraceMode(StackTraceMode mode) {
+        stackTraceMode = Objects.requireNonNull(mode);
+    }
+
+    /**
+     * @return 当前的堆栈模式
+     */
+    public static StackTraceMode getStackTraceMode() {
+        return stackTraceMode;
+    }
+
+    /**
+     * 只有错误码和错误消息，没有原因、描述、异常和错误链，可以复用
+     */
+    private static boolean isCodeOnly(ErrorContext errorContext) {
+        return errorContext.getCode() != null
+                && errorContext.getReason() == null
+                && errorContext.getDescription() == null
+                && errorContext.getCause() == null
+                && errorContext.getPrevious() == null;
+    }
+
+    /**
+     * 堆栈模式
+     */
+    public enum StackTraceMode {
+        /**
+         * 填充完整的堆栈，默认
+         */
+        FULL,
+        /**
+         * 不填充堆栈，日志中只有异常消息和引起错误的异常
+         */
+        STACKLESS,
+        /**
+         * 不填充堆栈；只有错误码的错误复用每个错误码预先创建的异常（不可添加被抑制的异常），其余同 STACKLESS
+         */
+        CACHED
+    }
+
 }
@@ -4,34 +4,53 @@
 
 package org.example.xhc.demo.base.util;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
-import org.example.xhc.common.helper.FormattingTuple;
+import org.example.xhc.common.helper.ContextCarrier;
 import org.example.xhc.common.helper.MessageFormatter;
 import org.example.xhc.demo.base.common.IResultEnum;
 import org.example.xhc.demo.base.exception.BusinessException;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.Callable;
 
 import static org.example.xhc.common.constant.SystemConstants.LINE_SEPARATOR;
 
 /**
  * 错误上下文
  * 保存错误的信息
+ * <p>
+ * 不可变：of(...) 每次创建新实例，reason/description/cause 等方法返回修改后的副本，其余字段（包括 previous 错误链）与原实例共享；
+ * 可以安全地在线程、异步阶段之间传递，一个 Result 持有的错误不会被之后的失败覆盖
+ * <p>
+ * 带参数的原因、描述延迟格式化：只保存模式和参数，在首次读取（getter、toString()、toException()、序列化）时格式化并缓存结果，
+ * 副本之间共享缓存；失败被 getOrElse/orElse 等恢复、消息从未被读取时不产生格式化开销。
+ * 因此参数在读取前不应被修改
+ * <p>
+ * instance()/store()/recall()/remove() 保留当前执行流程的错误链，供需要跨方法传递错误的调用方使用，of(...) 不经过错误链；
+ * 错误链保存在 {@link ContextCarrier} 中：在 {@link #call(Callable)} 内执行时，JDK支持ScopedValue则绑定在作用域上，
+ * 不为每个（虚拟）线程创建ThreadLocal条目，否则使用ThreadLocal
  *
  * @author xiaohongchao
  * @since 1.0.0
  */
 @Getter
-public class ErrorContext implements Serializable {
+public final class ErrorContext implements Serializable {
     private static final long serialVersionUID = 800312585448987400L;
 
     /**
-     * 性能增强，兼顾多线程
+     * 当前执行流程的错误链
      */
-    private static final ThreadLocal<ErrorContext> LOCAL = new ThreadLocal<>();
+    private static final ContextCarrier<ErrorContext> CARRIER = ContextCarrier.create();
+
+    /**
+     * 空的错误上下文
+     */
+    private static final ErrorContext EMPTY = new ErrorContext(null, null, null, null, null, null);
 
     /**
      * 新行占位符
@@ -41,110 +60,123 @@ public class ErrorContext implements Serializable {
     /**
      * 错误码
      */
-    private String code;
+    private final String code;
 
     /**
      * 错误消息
      */
-    private String message;
+    private final String message;
 
     /**
      * 错误原因
      */
-    private String reason;
+    @Getter(AccessLevel.NONE)
+    private final Text reason;
 
     /**
      * 错误描述
      */
-    private String description;
+    @Getter(AccessLevel.NONE)
+    private final Text description;
 
     /**
      * 如果是异常引起，记录对应异常
      */
-    private Throwable cause;
+    private final Throwable cause;
 
     /**
      * 构成错误链，可以追溯错误源
      */
-    private ErrorContext previous;
+    private final ErrorContext previous;
 
     /**
      * 防止外部实例化
      */
-    private ErrorContext() {
+    private ErrorContext(String code, String message, Text reason, Text description, Throwable cause,
+                         ErrorContext previous) {
+        this.code = code;
+        this.message = message;
+        this.reason = reason;
+        this.description = description;
+        this.cause = cause;
+        this.previous = previous;
     }
 
     /**
-     * 从ThreadLocal取出已经实例化的ErrorContext，或者实例化一个ErrorContext放入ThreadLocal
+     * 取出当前执行流程的ErrorContext，没有时为空的ErrorContext
      *
      * @return ErrorContext实例
      */
     public static ErrorContext instance() {
-        ErrorContext context = LOCAL.get();
-        if (context == null) {
-            context = new ErrorContext();
-            LOCAL.set(context);
-        }
-        return context;
+        ErrorContext context = CARRIER.get();
+        return context != null ? context : EMPTY;
     }
 
     /**
-     * 创建一个包装了原有ErrorContext的新ErrorContext
+     * 在独立的错误链中执行任务（例如一次请求），任务中 store() 的错误在结束后丢弃
+     *
+     * @param task 任务
+     * @param <R>  结果的类型
+     * @return 任务的结果
+     */
+    public static <R> R call(final Callable<R> task) {
+        return CARRIER.call(task);
+    }
+
+    /**
+     * 创建一个包装了原有ErrorContext的新ErrorContext，作为当前执行流程的ErrorContext
      *
      * @return 新的ErrorContext实例
      */
     public ErrorContext store() {
-        ErrorContext newContext = new ErrorContext();
-        newContext.previous = this;
-        LOCAL.set(newContext);
-        return LOCAL.get();
+        ErrorContext newContext = new ErrorContext(null, null, null, null, null, this);
+        CARRIER.set(newContext);
+        return newContext;
     }
 
     /**
-     * 剥离出当前ErrorContext的内部ErrorContext
+     * 当前执行流程的ErrorContext回退到内部ErrorContext
      *
-     * @return 剥离出的ErrorContext对象
+     * @return 当前执行流程的ErrorContext
      */
     public ErrorContext recall() {
         if (previous != null) {
-            LOCAL.set(previous);
-            previous = null;
+            CARRIER.set(previous);
         }
-        return LOCAL.get();
+        return instance();
     }
 
     /**
-     * 从ThreadLocal中移除
+     * 移除当前执行流程的错误链
      */
     public void remove() {
-        LOCAL.remove();
+        CARRIER.remove();
     }
 
     /**
-     * 重置原ErrorContext内容
+     * 返回空的ErrorContext
+     *
+     * @return 空的ErrorContext
+     * @deprecated ErrorContext不可变，没有需要重置的内容，使用 of(...) 创建新的错误上下文
      */
+    @Deprecated
     public ErrorContext reset() {
-        code = null;
-        message = null;
-        reason = null;
-        cause = null;
-        previous = null;
-        return this;
+        return EMPTY;
     }
 
     /**
-     * 工厂方法：初始化当前线程的错误上下文实例
+     * 工厂方法：创建错误上下文
      *
      * @param errorRecord 错误记录
      * @return ErrorContext对象
      */
     public static ErrorContext of(final IResultEnum errorRecord) {
         Objects.requireNonNull(errorRecord);
-        return ErrorContext.instance().reset(errorRecord);
+        return new ErrorContext(errorRecord.getCode(), errorRecord.getMessage(), null, null, null, null);
     }
 
     /**
-     * 工厂方法：初始化当前线程的错误上下文实例
+     * 工厂方法：创建错误上下文
      *
      * @param errorRecord   错误记录
      * @param reasonPattern 原因待格式化字符串
@@ -153,7 +185,8 @@ public class ErrorContext implements Serializable {
      */
     public static ErrorContext of(final IResultEnum errorRecord, String reasonPattern, final Object... params) {
         Objects.requireNonNull(errorRecord);
-        return ErrorContext.instance().reset(errorRecord).reason(reasonPattern, params);
+        return new ErrorContext(errorRecord.getCode(), errorRecord.getMessage(), Text.of(reasonPattern, params), null,
+                throwableCandidate(params), null);
     }
 
     /**
@@ -168,30 +201,24 @@ public class ErrorContext implements Serializable {
     }
 
     /**
-     * 重置原ErrorContext内容为指定内容
+     * 以当前ErrorContext为前一个错误，创建新的错误上下文，错误链与当前ErrorContext共享
      *
      * @param errorRecord 错误记录
-     * @return ErrorContext对象
+     * @return 新的ErrorContext对象
      */
-    private ErrorContext reset(final IResultEnum errorRecord) {
-        reset();
-        Optional.ofNullable(errorRecord)
-                .ifPresent(v -> {
-                    this.code = v.getCode();
-                    this.message = v.getMessage();
-                });
-        return this;
+    public ErrorContext wrap(final IResultEnum errorRecord) {
+        Objects.requireNonNull(errorRecord);
+        return new ErrorContext(errorRecord.getCode(), errorRecord.getMessage(), null, null, null, this);
     }
 
     /**
      * 设置错误原因
      *
      * @param reason 原因
-     * @return ErrorContext对象
+     * @return 新的ErrorContext对象
      */
     public ErrorContext reason(final String reason) {
-        this.reason = reason;
-        return this;
+        return new ErrorContext(code, message, Text.of(reason), description, cause, previous);
     }
 
     /**
@@ -199,73 +226,79 @@ public class ErrorContext implements Serializable {
      *
      * @param reasonPattern 原因待格式化字符串
      * @param params        参数（支持最后1个参数为Throwable）
-     * @return ErrorContext对象
+     * @return 新的ErrorContext对象
      */
     public ErrorContext reason(final String reasonPattern, final Object... params) {
-        FormattingTuple formattingTuple = MessageFormatter.arrayFormat(reasonPattern, params);
-        this.reason = formattingTuple.getMessage();
-        this.cause = formattingTuple.getThrowable();
-        return this;
+        return new ErrorContext(code, message, Text.of(reasonPattern, params), description, throwableCandidate(params),
+                previous);
     }
 
     /**
      * 增加错误原因
      *
      * @param reason 原因
-     * @return ErrorContext对象
+     * @return 新的ErrorContext对象
      */
     public ErrorContext appendReason(final String reason) {
-        if (StringUtils.isBlank(this.reason)) {
-            this.reason = reason;
-        } else {
-            this.reason = this.reason + NEW_LINE + reason;
-        }
-        return this;
+        String current = getReason();
+        return reason(StringUtils.isBlank(current) ? reason : current + NEW_LINE + reason);
+    }
+
+    /**
+     * 错误原因，带参数的原因在首次读取时格式化
+     *
+     * @return 错误原因
+     */
+    public String getReason() {
+        return reason == null ? null : reason.get();
     }
 
     /**
      * 设置错误描述
      *
      * @param description 错误描述
-     * @return ErrorContext对象
+     * @return 新的ErrorContext对象
      */
     public ErrorContext description(final String description) {
-        this.description = description;
-        return this;
+        return new ErrorContext(code, message, reason, Text.of(description), cause, previous);
     }
 
     /**
      * 设置错误描述
      *
      * @param descriptionPattern 原因
-     * @return ErrorContext对象
+     * @return 新的ErrorContext对象
      */
     public ErrorContext description(final String descriptionPattern, final Object... params) {
-        FormattingTuple formattingTuple = MessageFormatter.arrayFormat(descriptionPattern, params);
-        this.description = formattingTuple.getMessage();
-        return this;
+        return new ErrorContext(code, message, reason, Text.of(descriptionPattern, params), cause, previous);
+    }
+
+    /**
+     * 错误描述，带参数的描述在首次读取时格式化
+     *
+     * @return 错误描述
+     */
+    public String getDescription() {
+        return description == null ? null : description.get();
     }
 
     /**
      * 设置引起错误的异常信息
      *
      * @param cause 异常
-     * @return ErrorContext对象
+     * @return 新的ErrorContext对象
      */
     public ErrorContext cause(final Throwable cause) {
-        this.cause = cause;
-        return this;
+        return new ErrorContext(code, message, reason, description, cause, previous);
     }
 
     /**
-     * 转为业务异常
+     * 转为业务异常，是否填充堆栈由 {@link BusinessException#setStackTraceMode} 决定
      *
      * @return 业务异常
      */
     public RuntimeException toException() {
-        return cause == null
-                ? new BusinessException(this)
-                : new BusinessException(this, cause);
+        return BusinessException.of(this);
     }
 
     @Override
@@ -286,12 +319,14 @@ public class ErrorContext implements Serializable {
         }
 
         // description
+        String description = getDescription();
         if (description != null) {
             ret.append(NEW_LINE);
             ret.append(description);
         }
 
         // reason
+        String reason = getReason();
         if (reason != null) {
             ret.append(NEW_LINE);
             ret.append(reason);
@@ -306,4 +341,71 @@ public class ErrorContext implements Serializable {
 
         return ret.toString();
     }
+
+    /**
+     * 与 MessageFormatter 相同，最后1个参数为Throwable时作为引起错误的异常
+     */
+    private static Throwable throwableCandidate(final Object[] params) {
+        if (params == null || params.length == 0) {
+            return null;
+        }
+        Object last = params[params.length - 1];
+        return last instanceof Throwable ? (Throwable) last : null;
+    }
+
+    /**
+     * 原因、描述的文本，带参数时在首次读取时格式化并缓存，之后不再持有参数
+     * 并发读取时可能重复格式化，结果相同
+     */
+    private static final class Text implements Serializable {
+        private static final long serialVersionUID = -6514322375086497113L;
+
+        /**
+         * 格式化后置为null，不再让参数随错误链一直可达
+         */
+        private transient volatile String pattern;
+        private transient volatile Object[] params;
+        private volatile String value;
+
+        private Text(String pattern, Object[] params, String value) {
+            this.pattern = pattern;
+            this.params = params;
+            this.value = value;
+        }
+
+        static Text of(String value) {
+            return value == null ? null : new Text(null, null, value);
+        }
+
+        static Text of(String pattern, Object[] params) {
+            return pattern == null ? null : new Text(pattern, params, null);
+        }
+
+        String get() {
+            String result = value;
+            if (result != null) {
+                return result;
+            }
+            String p = pattern;
+            Object[] a = params;
+            //先写value再清空参数，读到清空后的参数时value已经可见
+            result = value;
+            if (result != null) {
+                return result;
+            }
+            result = MessageFormatter.arrayFormat(p, a).getMessage();
+            value = result;
+            pattern = null;
+            params = null;
+            return result;
+        }
+
+        /**
+         * 序列化前格式化
+         */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            get();
+            out.defaultWriteObject();
+        }
+    }
 }
@@ -12,6 +12,8 @@ import javax.validation.Validator;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import static java.util.stream.Collectors.*;
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
@@ -21,6 +23,9 @@ import static org.example.xhc.demo.base.common.ErrorEnum.INTERNAL_SERVER_ERROR;
 
 /**
  * 业务验证工具类
+ * <p>
+ * 校验在创建 IfHandle 时完成：thenThrow 失败时抛出业务异常；thenFailure 失败时返回 Failure，不创建异常，
+ * 适合大量校验且失败常见的场景；or 串联时第一个失败的校验决定结果，校验通过时不创建对象
  *
  * @author xiaohongchao
  * @since 1.0.0
@@ -44,11 +49,11 @@ public final class If {
         final Validator validator = ValidatorProvider.get();
         Set<ConstraintViolation<T>> validatedSet = validator.validate(t, groups);
 
-        return error -> {
-            if (isNotEmpty(validatedSet) && isNotOnlyNullElement(validatedSet)) {
-                throw ensureToException(error, "JSR-303 bean validation").appendReason(generateErrorDetails(validatedSet)).toException();
-            }
-        };
+        if (isNotEmpty(validatedSet) && isNotOnlyNullElement(validatedSet)) {
+            return new Check(error -> ensureToException(error, "JSR-303 bean validation")
+                    .appendReason(generateErrorDetails(validatedSet)));
+        }
+        return Check.PASSED;
     }
 
     /**
@@ -81,11 +86,7 @@ public final class If {
      * @throws RuntimeException 如果表达式为true,抛出免检异常
      */
     public static IfHandle isTrue(final boolean expression) {
-        return error -> {
-            if (expression) {
-                throw ensureToException(error, "expression").toException();
-            }
-        };
+        return expression ? failed("expression") : Check.PASSED;
     }
 
     /**
@@ -96,11 +97,7 @@ public final class If {
      * @throws RuntimeException 如果对象为null，抛出免检异常
      */
     public static IfHandle isNull(final Object object) {
-        return error -> {
-            if (object == null) {
-                throw ensureToException(error, "null object").toException();
-            }
-        };
+        return object == null ? failed("null object") : Check.PASSED;
     }
 
     /**
@@ -111,11 +108,7 @@ public final class If {
      * @throws RuntimeException 如果对象不为null，抛出免检异常
      */
     public static IfHandle notNull(final Object object) {
-        return error -> {
-            if (object != null) {
-                throw ensureToException(error, object).toException();
-            }
-        };
+        return object != null ? failed(object) : Check.PASSED;
     }
 
     /**
@@ -126,11 +119,7 @@ public final class If {
      * @throws RuntimeException 如果文本为空，抛出免检异常
      */
     public static IfHandle isBlank(final String text) {
-        return error -> {
-            if (StringUtils.isBlank(text)) {
-                throw ensureToException(error, "blank text").toException();
-            }
-        };
+        return StringUtils.isBlank(text) ? failed("blank text") : Check.PASSED;
     }
 
     /**
@@ -141,11 +130,7 @@ public final class If {
      * @throws RuntimeException 如果文本不为空，抛出免检异常
      */
     public static IfHandle isNotBlank(final String text) {
-        return error -> {
-            if (StringUtils.isNotBlank(text)) {
-                throw ensureToException(error, text).toException();
-            }
-        };
+        return StringUtils.isNotBlank(text) ? failed(text) : Check.PASSED;
     }
 
     /**
@@ -156,11 +141,7 @@ public final class If {
      * @throws RuntimeException 如果数组为空，抛出免检异常
      */
     public static IfHandle isEmpty(final Object object) {
-        return error -> {
-            if (ObjectUtils.isEmpty(object)) {
-                throw ensureToException(error, "empty").toException();
-            }
-        };
+        return ObjectUtils.isEmpty(object) ? failed("empty") : Check.PASSED;
     }
 
     /**
@@ -171,11 +152,17 @@ public final class If {
      * @throws RuntimeException 如果数组不为空，抛出免检异常
      */
     public static IfHandle notEmpty(final Object object) {
-        return error -> {
-            if (!ObjectUtils.isEmpty(object)) {
-                throw ensureToException(error, object).toException();
-            }
-        };
+        return !ObjectUtils.isEmpty(object) ? failed(object) : Check.PASSED;
+    }
+
+    /**
+     * 校验失败
+     *
+     * @param object 对象信息
+     * @return 失败的校验处理
+     */
+    private static IfHandle failed(Object object) {
+        return new Check(error -> ensureToException(error, object));
     }
 
     /**
@@ -189,4 +176,44 @@ public final class If {
         return Objects.nonNull(error) ? error
                 : INTERNAL_SERVER_ERROR.as("It is necessary to clarify the business error after the business check fails, The check target is {}", object);
     }
+
+    /**
+     * 已完成的校验，failure为null表示校验通过
+     */
+    private static final class Check implements IfHandle {
+        private static final Check PASSED = new Check(null);
+
+        /**
+         * 由调用方给出的错误生成最终的错误
+         */
+        private final UnaryOperator<ErrorContext> failure;
+
+        private Check(UnaryOperator<ErrorContext> failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void thenThrow(ErrorContext error) {
+            if (failure != null) {
+                throw failure.apply(error).toException();
+            }
+        }
+
+        @Override
+        public Result<Void> thenFailure(ErrorContext error) {
+            return failure == null ? Result.empty() : Result.failure(failure.apply(error));
+        }
+
+        @Override
+        public Result<Void> thenFailure(Supplier<ErrorContext> error) {
+            Objects.requireNonNull(error);
+            return failure == null ? Result.empty() : Result.failure(failure.apply(error.get()));
+        }
+
+        @Override
+        public IfHandle or(IfHandle after) {
+            Objects.requireNonNull(after);
+            return failure != null ? this : after;
+        }
+    }
 }
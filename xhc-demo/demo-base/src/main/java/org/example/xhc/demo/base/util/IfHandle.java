@@ -4,7 +4,10 @@
 
 package org.example.xhc.demo.base.util;
 
+import org.example.xhc.demo.base.exception.BusinessException;
+
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * if语法糖的类型定义
@@ -29,6 +32,36 @@ public interface IfHandle {
      */
     void thenThrow(ErrorContext error);
 
+    /**
+     * 不抛出异常的 thenThrow：校验通过返回 Result.empty()，否则返回带错误的 Failure
+     * <p>
+     * If 提供的校验直接判断结果，不创建、不捕获异常；其他实现通过捕获 thenThrow 抛出的业务异常转换
+     *
+     * @param error 错误
+     * @return 校验结果
+     */
+    default Result<Void> thenFailure(ErrorContext error) {
+        try {
+            thenThrow(error);
+            return Result.empty();
+        } catch (BusinessException e) {
+            return Result.failure(e.getErrorContext());
+        }
+    }
+
+    /**
+     * 不抛出异常的 thenThrow，错误只在校验失败时创建
+     * <p>
+     * If 提供的校验在通过时不调用 error；其他实现总是调用
+     *
+     * @param error 错误的提供者
+     * @return 校验结果
+     */
+    default Result<Void> thenFailure(Supplier<ErrorContext> error) {
+        Objects.requireNonNull(error);
+        return thenFailure(error.get());
+    }
+
     /**
      * 串联多个If语法糖
      *
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.demo.base.exception;
+
+import org.example.xhc.demo.base.exception.BusinessException.StackTraceMode;
+import org.example.xhc.demo.base.util.ErrorContext;
+import org.example.xhc.demo.base.util.If;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.example.xhc.demo.base.common.ErrorEnum.INTERNAL_SERVER_ERROR;
+import static org.example.xhc.demo.base.common.ErrorEnum.RESULT_CONTENT_ERROR;
+
+/**
+ * 业务异常单元测试
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+class BusinessExceptionTest {
+
+    @AfterEach
+    void restore() {
+        BusinessException.setStackTraceMode(StackTraceMode.FULL);
+    }
+
+    @Test
+    void full() {
+        BusinessException exception = BusinessException.of(ErrorContext.of(RESULT_CONTENT_ERROR));
+
+        assertThat(exception.getStackTrace()).isNotEmpty();
+        assertThat(BusinessException.of(ErrorContext.of(RESULT_CONTENT_ERROR))).isNotSameAs(exception);
+    }
+
+    @Test
+    void stackless() {
+        BusinessException.setStackTraceMode(StackTraceMode.STACKLESS);
+        IllegalStateException cause = new IllegalStateException("boom");
+
+        BusinessException exception = catchThrowableOfType(
+                () -> If.isTrue(true).thenThrow(INTERNAL_SERVER_ERROR.as("value {}", 1, cause)), BusinessException.class);
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getCause()).isSameAs(cause);
+        assertThat(exception.getMessage()).contains("value 1");
+    }
+
+    @Test
+    void cached() {
+        BusinessException.setStackTraceMode(StackTraceMode.CACHED);
+
+        BusinessException first = BusinessException.of(ErrorContext.of(RESULT_CONTENT_ERROR));
+        BusinessException second = BusinessException.of(ErrorContext.of(RESULT_CONTENT_ERROR));
+        assertThat(second).isSameAs(first);
+        assertThat(first.getStackTrace()).isEmpty();
+        assertThat(first.getErrorContext().getCode()).isEqualTo(RESULT_CONTENT_ERROR.getCode());
+
+        //带原因的错误不复用
+        BusinessException withReason = BusinessException.of(RESULT_CONTENT_ERROR.as("value {}", 2));
+        assertThat(withReason).isNotSameAs(first);
+        assertThat(withReason.getStackTrace()).isEmpty();
+        assertThat(withReason.getMessage()).contains("value 2");
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.demo.base.util;
+
+import org.example.xhc.demo.base.exception.BusinessException;
+import org.example.xhc.demo.base.exception.BusinessException.StackTraceMode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.example.xhc.demo.base.common.ErrorEnum.RESULT_CONTENT_ERROR;
+
+/**
+ * 业务异常抛出、捕获的基准测试：对比各堆栈模式
+ * <p>
+ * 在 {@code depth} 层调用深处由 If 校验失败抛出异常，由 Result.of 捕获，与请求处理中的校验失败相同；
+ * codeOnly 只有错误码（CACHED 模式下复用异常），withReason 带格式化的原因
+ * 默认4个线程，可以用 -t 调整；运行方式：执行main方法，或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class BusinessExceptionBenchmark {
+    @Param({"FULL", "STACKLESS", "CACHED"})
+    private StackTraceMode mode;
+
+    @Param({"20", "100"})
+    private int depth;
+
+    @Setup
+    public void setup() {
+        BusinessException.setStackTraceMode(mode);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BusinessException.setStackTraceMode(StackTraceMode.FULL);
+    }
+
+    @Benchmark
+    public Result<Integer> codeOnly() {
+        return Result.of(() -> validate(depth, ErrorContext.of(RESULT_CONTENT_ERROR)));
+    }
+
+    @Benchmark
+    public Result<Integer> withReason() {
+        return Result.of(() -> validate(depth, RESULT_CONTENT_ERROR.as("value {} is out of range", depth)));
+    }
+
+    private static Integer validate(int depth, ErrorContext error) {
+        if (depth > 0) {
+            return validate(depth - 1, error);
+        }
+        If.isTrue(true).thenThrow(error);
+        return depth;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BusinessExceptionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
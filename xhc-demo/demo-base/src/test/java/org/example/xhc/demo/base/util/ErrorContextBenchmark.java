@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.demo.base.util;
+
+import org.example.xhc.demo.base.common.IResultEnum;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.example.xhc.demo.base.common.ErrorEnum.RESULT_CONTENT_ERROR;
+
+/**
+ * 错误上下文创建的多线程基准测试：不可变的 ErrorContext 对比原来的 ThreadLocal 单例（取出、重置、修改）
+ * <p>
+ * 每次调用创建一个带原因和异常的错误上下文并读取错误码，与 Result 流水线中的失败分支相同；
+ * threadLocal 为原实现的精简复制，仅用于对比
+ * 默认4个线程，可以用 -t 调整；运行方式：执行main方法（已加GC分析器），或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ErrorContextBenchmark {
+    private static final String PATTERN = "value {} is out of range";
+    private static final IllegalStateException CAUSE = new IllegalStateException("invalid");
+
+    private int value;
+
+    @Benchmark
+    public String immutable() {
+        return ErrorContext.of(RESULT_CONTENT_ERROR, PATTERN, value++).cause(CAUSE).getCode();
+    }
+
+    @Benchmark
+    public String threadLocal() {
+        return ThreadLocalErrorContext.of(RESULT_CONTENT_ERROR, PATTERN, value++).cause(CAUSE).getCode();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ErrorContextBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    /**
+     * 原来的ThreadLocal单例实现：每次取出当前线程的实例，重置后修改
+     */
+    static final class ThreadLocalErrorContext {
+        private static final ThreadLocal<ThreadLocalErrorContext> LOCAL = new ThreadLocal<>();
+
+        private String code;
+        private String message;
+        private String reasonPattern;
+        private Object[] reasonParams;
+        private Throwable cause;
+        private ThreadLocalErrorContext previous;
+
+        static ThreadLocalErrorContext instance() {
+            ThreadLocalErrorContext context = LOCAL.get();
+            if (context == null) {
+                context = new ThreadLocalErrorContext();
+                LOCAL.set(context);
+            }
+            return context;
+        }
+
+        static ThreadLocalErrorContext of(IResultEnum errorRecord, String reasonPattern, Object... params) {
+            ThreadLocalErrorContext context = instance().reset();
+            context.code = errorRecord.getCode();
+            context.message = errorRecord.getMessage();
+            context.reasonPattern = reasonPattern;
+            context.reasonParams = params;
+            return context;
+        }
+
+        ThreadLocalErrorContext reset() {
+            code = null;
+            message = null;
+            reasonPattern = null;
+            reasonParams = null;
+            cause = null;
+            previous = null;
+            return this;
+        }
+
+        ThreadLocalErrorContext cause(Throwable cause) {
+            this.cause = cause;
+            return this;
+        }
+
+        String getCode() {
+            return code;
+        }
+    }
+}
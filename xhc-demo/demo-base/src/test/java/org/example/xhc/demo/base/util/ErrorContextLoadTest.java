@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.demo.base.util;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.xhc.demo.base.common.ErrorEnum.RESULT_CONTENT_ERROR;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 错误链的负载测试：同时挂起 {@link #REQUESTS} 个请求，每个请求保存一个错误链，测量每个进行中请求占用的堆内存
+ * <p>
+ * threadLocal 直接在线程上保存错误链，scoped 在 ErrorContext.call 的作用域中保存（JDK支持ScopedValue时不使用ThreadLocal）；
+ * JDK 21及以上每个请求使用一个虚拟线程，否则使用平台线程（结果包含线程栈以外的线程对象开销）
+ * 运行方式：mvn test -Dtest=ErrorContextLoadTest -DloadTest=true
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@EnabledIfSystemProperty(named = "loadTest", matches = "true")
+class ErrorContextLoadTest {
+    private static final int REQUESTS = Integer.getInteger("loadTest.requests", 10_000);
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    void threadLocal() {
+        report("threadLocal", measure(this::handle));
+    }
+
+    @Test
+    void scoped() {
+        report("scoped", measure((started, release) -> ErrorContext.call(() -> {
+            handle(started, release);
+            return null;
+        })));
+    }
+
+    /**
+     * 一次请求：保存错误链后才计入已开始，然后等待，直到全部请求都在进行中并完成测量
+     */
+    @SneakyThrows
+    private void handle(CountDownLatch started, CountDownLatch release) {
+        ErrorContext context = ErrorContext.of(RESULT_CONTENT_ERROR, "request {}", Thread.currentThread().getId())
+                .store();
+        started.countDown();
+        release.await();
+        context.recall();
+        context.remove();
+    }
+
+    @SneakyThrows
+    private static double measure(Request request) {
+        ExecutorService executor = executor();
+        CountDownLatch started = new CountDownLatch(REQUESTS);
+        CountDownLatch release = new CountDownLatch(1);
+        long baseline = usedHeap();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                executor.execute(() -> request.handle(started, release));
+            }
+            assertTrue(started.await(1, TimeUnit.MINUTES));
+            return (double) (usedHeap() - baseline) / REQUESTS;
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private static void report(String name, double bytesPerRequest) {
+        System.out.printf("%s: %d requests in flight, %.1f bytes of heap per request%n", name, REQUESTS,
+                bytesPerRequest);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * JDK 21及以上为每个任务一个虚拟线程，否则为每个任务一个平台线程
+     */
+    private static ExecutorService executor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void handle(CountDownLatch started, CountDownLatch release);
+    }
+}
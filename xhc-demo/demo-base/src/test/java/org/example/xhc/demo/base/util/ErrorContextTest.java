@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.demo.base.util;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.example.xhc.demo.base.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.example.xhc.demo.base.common.ErrorEnum.INTERNAL_SERVER_ERROR;
+import static org.example.xhc.demo.base.common.ErrorEnum.RESULT_CONTENT_ERROR;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorContextTest {
+    @Test
+    void testDeferredReason() {
+        Object param = new Object() {
+            @Override
+            public String toString() {
+                fail("reason should not be formatted before it is read");
+                return null;
+            }
+        };
+        IllegalStateException cause = new IllegalStateException("boom");
+        ErrorContext context = ErrorContext.of(INTERNAL_SERVER_ERROR, "param {} is invalid", param, cause);
+        assertSame(cause, context.getCause());
+
+        ErrorContext other = context.reason("id {} is invalid", 1, cause);
+        assertEquals("id 1 is invalid", other.getReason());
+        assertSame(cause, other.getCause());
+    }
+
+    @Test
+    void testDeferredDescription() {
+        ErrorContext context = ErrorContext.of(INTERNAL_SERVER_ERROR).description("{} of {}", 1, 2);
+        assertEquals("1 of 2", context.getDescription());
+
+        assertEquals("plain", context.description("plain").getDescription());
+    }
+
+    @Test
+    void testAppendReason() {
+        ErrorContext context = ErrorContext.of(RESULT_CONTENT_ERROR, "first {}", 1).appendReason("second");
+        assertTrue(context.getReason().startsWith("first 1"));
+        assertTrue(context.getReason().endsWith("second"));
+    }
+
+    @Test
+    void testRenderedOnRead() {
+        ErrorContext context = ErrorContext.of(RESULT_CONTENT_ERROR, "value {}", 42).description("desc {}", "x");
+        String text = context.toString();
+        assertTrue(text.contains("value 42"));
+        assertTrue(text.contains("desc x"));
+
+        RuntimeException exception = ErrorContext.of(RESULT_CONTENT_ERROR, "value {}", 7).toException();
+        assertTrue(exception instanceof BusinessException);
+        assertTrue(exception.getMessage().contains("value 7"));
+
+        ErrorContext copy = SerializationUtils.roundtrip(ErrorContext.of(RESULT_CONTENT_ERROR, "value {}", 9));
+        assertEquals("value 9", copy.getReason());
+        assertEquals(RESULT_CONTENT_ERROR.getCode(), copy.getCode());
+    }
+
+    @Test
+    void testRecoveredFailureIsNeverFormatted() {
+        Object param = new Object() {
+            @Override
+            public String toString() {
+                fail("recovered failure should not be formatted");
+                return null;
+            }
+        };
+        String value = Result.<String>failure(ErrorContext.of(RESULT_CONTENT_ERROR, "value {}", param))
+                .getOrElse("default");
+        assertEquals("default", value);
+    }
+
+    @Test
+    void testFailuresAreIndependent() {
+        Result<String> first = Result.failure(ErrorContext.of(RESULT_CONTENT_ERROR, "first"));
+        Result<String> second = Result.failure(ErrorContext.of(INTERNAL_SERVER_ERROR, "second"));
+
+        assertNotSame(first.failureValue(), second.failureValue());
+        assertEquals(RESULT_CONTENT_ERROR.getCode(), first.failureValue().getCode());
+        assertEquals("first", first.failureValue().getReason());
+        assertEquals("second", second.failureValue().getReason());
+    }
+
+    @Test
+    void testCopiesShareUnchangedState() {
+        ErrorContext root = ErrorContext.of(INTERNAL_SERVER_ERROR, "root");
+        ErrorContext context = root.wrap(RESULT_CONTENT_ERROR).reason("wrapped");
+        ErrorContext copy = context.cause(new IllegalStateException());
+
+        assertSame(root, context.getPrevious());
+        assertSame(root, copy.getPrevious());
+        assertNull(context.getCause());
+        assertEquals("wrapped", copy.getReason());
+        assertEquals("root", copy.getPrevious().getReason());
+    }
+
+    @Test
+    void testAcrossThreads() throws Exception {
+        ErrorContext context = ErrorContext.of(RESULT_CONTENT_ERROR, "value {}", 1);
+        String reason = CompletableFuture.supplyAsync(() -> {
+            ErrorContext.of(INTERNAL_SERVER_ERROR, "other");
+            return context.getReason();
+        }).get();
+
+        assertEquals("value 1", reason);
+        assertEquals(RESULT_CONTENT_ERROR.getCode(), context.getCode());
+    }
+
+    @Test
+    void testThreadChain() {
+        ErrorContext first = ErrorContext.of(RESULT_CONTENT_ERROR);
+        ErrorContext stored = first.store();
+        assertSame(stored, ErrorContext.instance());
+        assertSame(first, stored.getPrevious());
+        assertSame(first, stored.recall());
+        ErrorContext.instance().remove();
+    }
+
+    @Test
+    void testScopedChain() throws Exception {
+        ErrorContext outer = ErrorContext.of(INTERNAL_SERVER_ERROR).store();
+
+        ErrorContext inner = ErrorContext.call(() -> {
+            assertNull(ErrorContext.instance().getPrevious());
+            return ErrorContext.of(RESULT_CONTENT_ERROR).store();
+        });
+
+        assertEquals(RESULT_CONTENT_ERROR.getCode(), inner.getPrevious().getCode());
+        assertSame(outer, ErrorContext.instance());
+        ErrorContext.instance().remove();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.demo.base.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.example.xhc.demo.base.common.ErrorEnum.RESULT_CONTENT_ERROR;
+
+/**
+ * If 校验的基准测试：抛出异常后由 Result.of 捕获，对比不抛出异常的 thenFailure
+ * <p>
+ * 每批校验 {@code size} 个值，约 {@code failurePercent}% 超出范围，每个值串联三个校验：
+ * thenThrow 为原来的方式，thenFailure 直接返回结果，thenFailureLazy 只在失败时创建错误
+ * 运行方式：执行main方法（已加GC分析器），或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类并加 -prof gc 运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IfBenchmark {
+    private static final String PATTERN = "value {} is out of range [{}, {}]";
+    private static final int MIN = 0;
+    private static final int MAX = 100;
+
+    @Param({"100"})
+    private int size;
+
+    @Param({"10", "90"})
+    private int failurePercent;
+
+    private Integer[] values;
+
+    @Setup
+    public void setup() {
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i * 100 < failurePercent * size ? MAX + i : i;
+        }
+    }
+
+    @Benchmark
+    public int thenThrow() {
+        int failures = 0;
+        for (Integer value : values) {
+            Result<Integer> result = Result.of(() -> {
+                check(value).thenThrow(ErrorContext.of(RESULT_CONTENT_ERROR, PATTERN, value, MIN, MAX));
+                return value;
+            });
+            failures += result.isFailure() ? 1 : 0;
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public int thenFailure() {
+        int failures = 0;
+        for (Integer value : values) {
+            Result<Void> result = check(value).thenFailure(ErrorContext.of(RESULT_CONTENT_ERROR, PATTERN, value, MIN, MAX));
+            failures += result.isFailure() ? 1 : 0;
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public int thenFailureLazy() {
+        int failures = 0;
+        for (Integer value : values) {
+            Result<Void> result = check(value).thenFailure(() -> ErrorContext.of(RESULT_CONTENT_ERROR, PATTERN, value, MIN, MAX));
+            failures += result.isFailure() ? 1 : 0;
+        }
+        return failures;
+    }
+
+    private static IfHandle check(Integer value) {
+        return If.isNull(value).or(If.isTrue(value < MIN)).or(If.isTrue(value > MAX));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IfBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -13,6 +13,7 @@ import static org.example.xhc.common.constant.SystemConstants.LINE_SEPARATOR;
 import static org.example.xhc.demo.base.util.If.isNull;
 import static org.example.xhc.demo.base.util.If.isTrue;
 import static org.example.xhc.demo.base.common.ErrorEnum.INTERNAL_SERVER_ERROR;
+import static org.example.xhc.demo.base.common.ErrorEnum.RESULT_CONTENT_ERROR;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -71,4 +72,38 @@ class IfHandleTest {
 
          assertDoesNotThrow(validate);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testThenFailure() {
+        Result<Void> failure = isTrue(false).or(isNull(null)).or(isTrue(true))
+                .thenFailure(INTERNAL_SERVER_ERROR.as("测试语法糖函数: {}", "isNull"));
+
+        assertThat(failure.isFailure()).isTrue();
+        assertThat(failure.failureValue().getCode()).isEqualTo(INTERNAL_SERVER_ERROR.getCode());
+        assertThat(failure.failureValue().getReason()).isEqualTo("测试语法糖函数: isNull");
+
+        Result<Void> success = isTrue(false).or(isNull(new Object()))
+                .thenFailure(() -> {
+                    throw new AssertionError("error should not be created when the check passes");
+                });
+        assertThat(success.isSuccess()).isTrue();
+    }
+
+    @Test
+    void testThenFailureWithoutError() {
+        Result<Void> failure = isNull(null).thenFailure((ErrorContext) null);
+
+        assertThat(failure.failureValue().getCode()).isEqualTo(INTERNAL_SERVER_ERROR.getCode());
+        assertThat(failure.failureValue().getReason()).contains("null object");
+    }
+
+    @Test
+    void testThenFailureOfCustomHandle() {
+        IfHandle handle = error -> {
+            throw error.toException();
+        };
+
+        Result<Void> failure = isTrue(false).or(handle).thenFailure(ErrorContext.of(RESULT_CONTENT_ERROR));
+        assertThat(failure.failureValue().getCode()).isEqualTo(RESULT_CONTENT_ERROR.getCode());
+    }
+}
@@ -42,7 +42,8 @@ class ResultAssertTest {
 
         assertThat(result).isInstanceOf(Result.Failure.class);
         assertThat(result.isFailure()).isTrue();
-        assertThat(result.failureValue()).isEqualTo(RESULT_CONTENT_ERROR.as(""));
+        assertThat(result.failureValue().getCode()).isEqualTo(RESULT_CONTENT_ERROR.getCode());
+        assertThat(result.failureValue().getMessage()).isEqualTo(RESULT_CONTENT_ERROR.getMessage());
     }
 
     @Test
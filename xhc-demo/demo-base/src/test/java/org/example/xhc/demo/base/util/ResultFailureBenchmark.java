@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+
+package org.example.xhc.demo.base.util;
+
+import org.example.xhc.common.helper.MessageFormatter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.example.xhc.demo.base.common.ErrorEnum.RESULT_CONTENT_ERROR;
+
+/**
+ * 失败占多数的 Result 流水线基准测试，关注每批的分配量（gc.alloc.rate.norm）
+ * <p>
+ * 每批校验 {@code size} 个值，约 {@code failurePercent}% 超出范围，失败由 getOrElse 恢复：
+ * eager 按原来的方式立即格式化原因，lazy 延迟格式化（消息从未被读取），lazyRead 延迟格式化后读取原因
+ * 运行方式：执行main方法（已加GC分析器），或 mvn test-compile 后通过 org.openjdk.jmh.Main 指定本类并加 -prof gc 运行
+ *
+ * @author xiaohongchao
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultFailureBenchmark {
+    private static final String PATTERN = "value {} is out of range [{}, {}]";
+    private static final int MIN = 0;
+    private static final int MAX = 100;
+
+    @Param({"100"})
+    private int size;
+
+    @Param({"90"})
+    private int failurePercent;
+
+    private Integer[] values;
+
+    @Setup
+    public void setup() {
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i * 100 < failurePercent * size ? MAX + i : i;
+        }
+    }
+
+    @Benchmark
+    public long eager() {
+        long sum = 0;
+        for (Integer value : values) {
+            ErrorContext error = ErrorContext.of(RESULT_CONTENT_ERROR)
+                    .reason(MessageFormatter.arrayFormat(PATTERN, new Object[]{value, MIN, MAX}).getMessage());
+            sum += validate(value, error).getOrElse(-1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long lazy() {
+        long sum = 0;
+        for (Integer value : values) {
+            sum += validate(value, ErrorContext.of(RESULT_CONTENT_ERROR, PATTERN, value, MIN, MAX)).getOrElse(-1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long lazyRead() {
+        long sum = 0;
+        for (Integer value : values) {
+            Result<Integer> result = validate(value, ErrorContext.of(RESULT_CONTENT_ERROR, PATTERN, value, MIN, MAX));
+            sum += result.isFailure() ? result.failureValue().getReason().length() : result.get();
+        }
+        return sum;
+    }
+
+    private static Result<Integer> validate(Integer value, ErrorContext error) {
+        return Result.of(v -> v >= MIN && v <= MAX, value, error);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResultFailureBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
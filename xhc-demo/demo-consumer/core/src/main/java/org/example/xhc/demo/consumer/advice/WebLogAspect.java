@@ -4,10 +4,9 @@
 package org.example.xhc.demo.consumer.advice;
 
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
@@ -27,11 +26,6 @@ import java.util.Arrays;
 @Component
 @Slf4j
 public class WebLogAspect {
-    /**
-     * 调用时间记录器
-     */
-    private final ThreadLocal<Long> startTime = new ThreadLocal<>();
-
     /**
      * 日志 pointcut
      */
@@ -41,13 +35,15 @@ public class WebLogAspect {
     }
 
     /**
-     * 调用前记录日志
+     * 调用前后记录日志，调用时间保存在局部变量中，不使用ThreadLocal
      *
      * @param joinPoint 连接点
+     * @return 返回内容
+     * @throws Throwable 调用抛出的异常，原样抛出
      */
-    @Before("webLog()")
-    public void doBefore(JoinPoint joinPoint) {
-        startTime.set(System.currentTimeMillis());
+    @Around("webLog()")
+    public Object doAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startTime = System.currentTimeMillis();
 
         // 接收到请求，记录请求内容
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
@@ -60,19 +56,13 @@ public class WebLogAspect {
                 request.getRequestURL(),
                 joinPoint.getSignature().getDeclaringTypeName() + "." + joinPoint.getSignature().getName(),
                 Arrays.toString(joinPoint.getArgs()));
-    }
 
-    /**
-     * 返回后记录日志
-     *
-     * @param ret 返回内容
-     */
-    @AfterReturning(returning = "ret", pointcut = "webLog()")
-    public void doAfterReturning(Object ret) {
+        Object ret = joinPoint.proceed();
+
         // 处理完请求，返回内容
         log.info("(doAfterReturning) SPEND TIME : {}, RESPONSE : {}",
-                (System.currentTimeMillis() - startTime.get()),
+                (System.currentTimeMillis() - startTime),
                 ret);
-        startTime.remove();
+        return ret;
     }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2022-2025 xiaohongchao.All Rights Reserved.
+ */
+package org.example.xhc.demo.consumer.filter;
+
+import org.example.xhc.demo.base.util.ErrorContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 为每个请求建立独立的错误链
+ * <p>
+ * 整个请求（包括后续的过滤器、切面和异常处理）在 {@link ErrorContext#call} 中执行：
+ * JDK支持ScopedValue时错误链绑定在请求的作用域上，不为每个（虚拟）线程创建ThreadLocal条目；
+ * 否则使用ThreadLocal，请求结束后恢复为请求前的值，不会遗留给线程池中的下一个请求
+ *
+ * @author xiaohongchao
+ * @since 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ErrorContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ErrorContext.call(() -> {
+            filterChain.doFilter(request, response);
+            return null;
+        });
+    }
+}